@@ -1,7 +1,12 @@
 package GraphExplorer;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
 
 /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
  * Abstract     AbstractGraph.java
@@ -19,6 +24,21 @@ public abstract class AbstractGraph<V> implements Graph<V>
     protected List<V> vertices = new ArrayList<>(); // Store vertices
     protected List<List<Edge>> neighbors = new ArrayList<>(); // Adjacency lists
 
+    // Connected components, kept up to date by addVertex and addEdge
+    private UnionFind components = new UnionFind(0);
+
+    // Index of every vertex in the vertices list, off until
+    // enableVertexIndex, then kept up to date by addVertex. Integer
+    // vertices use the primitive map until a vertex of another type is added
+    private boolean isVertexIndexed = false;
+    private IntIntHashMap integerIndex;
+    private HashMap<V, Integer> vertexIndex;
+
+    // Weight of every edge keyed by its packed (u, v), null until
+    // enableEdgeIndex, then kept up to date by addEdge. Of parallel edges
+    // the first one in the list wins
+    private LongDoubleHashMap edgeIndex;
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Constructor  AbstractGraph()-default constructor
      * Description  Not used
@@ -167,7 +187,9 @@ public abstract class AbstractGraph<V> implements Graph<V>
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       getIndex
-     * Description  Return the index for the specified vertex object.
+     * Description  Return the index for the specified vertex object, in
+     *              constant time once the vertex index is enabled and by a
+     *              scan of the vertices otherwise.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       v V
@@ -176,12 +198,21 @@ public abstract class AbstractGraph<V> implements Graph<V>
     @Override
     public int getIndex(V v) 
     {
-        return vertices.indexOf(v);
+        if (!isVertexIndexed)
+            return vertices.indexOf(v);
+        if (vertexIndex != null) 
+        {
+            Integer index = vertexIndex.get(v);
+            return index == null ? -1 : index;
+        }
+        return v instanceof Integer ? integerIndex.get((Integer)v) : -1;
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       getNeighbors
-     * Description  Return the neighbors of the specified vertex.
+     * Description  Return the neighbors of the specified vertex in a new
+     *              list. forEachNeighbor, forEachEdge and the neighbor
+     *              cursors walk them without allocating.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       index int
@@ -197,6 +228,71 @@ public abstract class AbstractGraph<V> implements Graph<V>
         return result;
     }
 
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachNeighbor
+     * Description  Pass the index of every neighbor of the vertex to action.
+     *              Unlike getNeighbors nothing is allocated or boxed.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @param       action IntConsumer
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void forEachNeighbor(int index, IntConsumer action) 
+    {
+        List<Edge> list = neighbors.get(index);
+        for (int i = 0; i < list.size(); i++)
+            action.accept(list.get(i).v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachEdge
+     * Description  Pass every edge leaving the vertex to visitor, with the
+     *              weight given by getEdgeWeight.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @param       visitor EdgeVisitor
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void forEachEdge(int index, EdgeVisitor visitor) 
+    {
+        List<Edge> list = neighbors.get(index);
+        for (int i = 0; i < list.size(); i++) 
+        {
+            Edge e = list.get(i);
+            visitor.visit(index, e.v, getEdgeWeight(e));
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createNeighborCursor
+     * Description  Return a new cursor over the adjacency lists. Reusing
+     *              one cursor for every vertex allocates nothing per walk.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      cursor NeighborCursor
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public NeighborCursor createNeighborCursor() 
+    {
+        return new ListNeighborCursor();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdgeWeight
+     * Description  Return the weight forEachEdge and the cursors report for
+     *              an edge: 1 here, overridden by weighted graphs.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       e Edge
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    protected double getEdgeWeight(Edge e) 
+    {
+        return 1;
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       getDegree
      * Description  Return the degree for a specified vertex.
@@ -266,6 +362,7 @@ public abstract class AbstractGraph<V> implements Graph<V>
     {
         vertices.clear();
         neighbors.clear();
+        rebuildIndexes();
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -279,10 +376,13 @@ public abstract class AbstractGraph<V> implements Graph<V>
     @Override 
     public boolean addVertex(V vertex) 
     {
-        if (!vertices.contains(vertex)) 
+        if (getIndex(vertex) < 0) 
         {
             vertices.add(vertex);
+            if (isVertexIndexed)
+                indexVertex(vertices.size() - 1);
             neighbors.add(new ArrayList<Edge>());
+            components.add();
             return true;
         }
         else 
@@ -307,9 +407,13 @@ public abstract class AbstractGraph<V> implements Graph<V>
         if (e.v < 0 || e.v > getSize() - 1)
             throw new IllegalArgumentException("No such index: " + e.v);
 
-        if (!neighbors.get(e.u).contains(e)) 
+        boolean isNew = edgeIndex != null
+            ? edgeIndex.putIfAbsent(LongDoubleHashMap.pack(e.u, e.v), getEdgeWeight(e))
+            : findEdge(e.u, e.v) == null;
+        if (isNew) 
         {
             neighbors.get(e.u).add(e);
+            components.union(e.u, e.v);
             return true;
         }
         else 
@@ -333,7 +437,364 @@ public abstract class AbstractGraph<V> implements Graph<V>
         return addEdge(new Edge(u, v));
     }
 
-    
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       hasEdge
+     * Description  Return true if the graph has an edge from u to v, in
+     *              constant time once the edge index is enabled and by a
+     *              scan of the list of u otherwise. False if u or v is not
+     *              a vertex.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override 
+    public boolean hasEdge(int u, int v) 
+    {
+        int n = getSize();
+        if (u < 0 || u >= n || v < 0 || v >= n)
+            return false;
+        if (edgeIndex != null)
+            return edgeIndex.containsKey(LongDoubleHashMap.pack(u, v));
+        return findEdge(u, v) != null;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       findEdge
+     * Description  Return the first edge from u to v in the list of u, or
+     *              null if there is none or u is not a vertex.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      edge Edge
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    protected Edge findEdge(int u, int v) 
+    {
+        if (u < 0 || u >= neighbors.size())
+            return null;
+
+        List<Edge> edges = neighbors.get(u);
+        for (int i = 0; i < edges.size(); i++) 
+        {
+            if (edges.get(i).v == v)
+                return edges.get(i);
+        }
+        return null;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       enableVertexIndex
+     * Description  Build an index of the vertices now and keep it up to
+     *              date from then on, so getIndex and addVertex take
+     *              constant instead of linear time. It costs a hash entry,
+     *              about 16 to 32 bytes for Integer vertices and more for
+     *              others, per vertex. Enable it before the graph is shared
+     *              with other threads: reads never change the index.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void enableVertexIndex() 
+    {
+        if (!isVertexIndexed) 
+        {
+            isVertexIndexed = true;
+            buildVertexIndex();
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       enableEdgeIndex
+     * Description  Build an index of the edges and their weights now and
+     *              keep it up to date from then on, so hasEdge, the weight
+     *              lookups and the duplicate check of addEdge take constant
+     *              instead of the degree of the vertex. The table is kept
+     *              at most half full, so it costs 32 to 64 bytes per edge.
+     *              Enable it before the graph is shared with other
+     *              threads: reads never change the index.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void enableEdgeIndex() 
+    {
+        if (edgeIndex == null)
+            buildEdgeIndex();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdgeIndex
+     * Description  Return the edge index, the weight given by getEdgeWeight
+     *              of every edge keyed by its packed (u, v), for the weight
+     *              lookups of a subclass, or null if it is not enabled. It
+     *              must not be changed.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      weights LongDoubleHashMap
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    protected LongDoubleHashMap getEdgeIndex() 
+    {
+        return edgeIndex;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isConnected
+     * Description  Return true if the graph has at most one connected
+     *              component. Edges count in both directions, so a directed
+     *              graph is checked for weak connectivity.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isConnected() 
+    {
+        return getNumberOfComponents() <= 1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       sameComponent
+     * Description  Return true if u and v are in the same component.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean sameComponent(int u, int v) 
+    {
+        return getComponent(u) == getComponent(v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getComponent
+     * Description  Return a vertex that stands for the component of v. It
+     *              is the same for every vertex of the component until an
+     *              edge joins the component to another.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      representative int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getComponent(int v) 
+    {
+        if (v < 0 || v > getSize() - 1)
+            throw new IllegalArgumentException("No such index: " + v);
+
+        return components.findRoot(v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getComponentSize
+     * Description  Return the number of vertices in the component of v.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getComponentSize(int v) 
+    {
+        if (v < 0 || v > getSize() - 1)
+            throw new IllegalArgumentException("No such index: " + v);
+
+        return components.getSetSize(v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfComponents
+     * Description  Return the number of connected components.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      components int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfComponents() 
+    {
+        return components.getCount();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       rebuildIndexes
+     * Description  Build the components, and the vertex and edge indexes
+     *              that are enabled, from the vertices and adjacency lists.
+     *              addVertex and addEdge keep them up to date, so only a
+     *              subclass that fills or replaces the lists itself calls
+     *              this, once it is done. Reads never change the indexes or
+     *              components, so any number of threads may read a graph
+     *              that no thread changes.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    protected void rebuildIndexes() 
+    {
+        if (isVertexIndexed)
+            buildVertexIndex();
+        if (edgeIndex != null)
+            buildEdgeIndex();
+
+        components = new UnionFind(vertices.size());
+        for (int u = 0; u < neighbors.size(); u++) 
+        {
+            for (Edge e : neighbors.get(u))
+                components.union(u, e.v);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       buildVertexIndex
+     * Description  Build the vertex index from the vertices list.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void buildVertexIndex() 
+    {
+        integerIndex = new IntIntHashMap(vertices.size());
+        vertexIndex = null;
+        for (int i = 0; i < vertices.size(); i++)
+            indexVertex(i);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       buildEdgeIndex
+     * Description  Build the edge index from the adjacency lists.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void buildEdgeIndex() 
+    {
+        int edges = 0;
+        for (List<Edge> list : neighbors)
+            edges += list.size();
+        LongDoubleHashMap index = new LongDoubleHashMap(edges);
+        for (int u = 0; u < neighbors.size(); u++) 
+        {
+            for (Edge e : neighbors.get(u))
+                index.putIfAbsent(LongDoubleHashMap.pack(u, e.v), getEdgeWeight(e));
+        }
+        edgeIndex = index;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       indexVertex
+     * Description  Add the vertex at index to the vertex index, switching
+     *              to a general map at the first vertex that is not an
+     *              Integer. The first occurrence of a vertex wins, as with
+     *              indexOf.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void indexVertex(int index) 
+    {
+        V vertex = vertices.get(index);
+        if (vertexIndex == null && !(vertex instanceof Integer)) 
+        {
+            // Switch to a general map holding the vertices so far
+            vertexIndex = new HashMap<>(Math.max(2 * vertices.size(), 16));
+            for (int i = 0; i < index; i++)
+                vertexIndex.putIfAbsent(vertices.get(i), i);
+            integerIndex = null;
+        }
+
+        if (vertexIndex != null)
+            vertexIndex.putIfAbsent(vertex, index);
+        else
+            integerIndex.putIfAbsent((Integer)vertex, index);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        ListNeighborCursor
+     * Description  NeighborCursor over one adjacency list at a time.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class ListNeighborCursor implements NeighborCursor 
+    {
+        private List<Edge> list = new ArrayList<>();
+        private int end;                // Size of list when the walk started
+        private int position = -1;      // Index of the current edge in list
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the adjacency list of u.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u) 
+        {
+            reset(u, 0);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the adjacency list of u before the
+         *              edge at index position.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u, int position) 
+        {
+            list = neighbors.get(u);
+            end = list.size();
+            this.position = position - 1;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getPosition()
+         * Description  Return the index of the current edge in the list.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getPosition() 
+        {
+            return position;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       next()
+         * Description  Move to the next edge of the list.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public boolean next() 
+        {
+            return ++position < end;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getTarget()
+         * Description  Return the vertex the current edge leads to.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getTarget() 
+        {
+            return list.get(position).v;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getWeight()
+         * Description  Return the weight of the current edge.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      weight double
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public double getWeight() 
+        {
+            return getEdgeWeight(list.get(position));
+        }
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Class        Edge
      * Description  Edge nested class inside the AbstractGraph class.
@@ -371,6 +832,19 @@ public abstract class AbstractGraph<V> implements Graph<V>
         {
             return u == ((Edge)o).u && v == ((Edge)o).v; 
         }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       hashCode()
+         * Description  Overridden method consistent with equals.
+         * @return      hash int
+         * @author      <i>Kirill Grichanichenko</i>
+         * Date         10/18/2026 
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int hashCode() 
+        {
+            return 31 * u + v;
+        }
         
         /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
          * Method       toString()
@@ -389,9 +863,10 @@ public abstract class AbstractGraph<V> implements Graph<V>
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       dfs
      * Description  Depth-First Search method. Obtain a DFS tree starting from 
-     *              vertex vCreates a parents int array and Boolean array for 
-     *              the visited vertices. Calls recursive overloaded dfs method. 
-     *              Returns a Tree object.
+     *              vertex v. The search runs in a TraversalContext of its
+     *              own, and its parents and search order are copied into
+     *              the returned Tree, so searches of one graph may run
+     *              concurrently.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       v int
@@ -400,53 +875,37 @@ public abstract class AbstractGraph<V> implements Graph<V>
     @Override
     public Tree dfs(int v) 
     {
-        List<Integer> searchOrder = new ArrayList<>();
-        int[] parent = new int[vertices.size()];
-        for (int i = 0; i < parent.length; i++)
-            parent[i] = -1; // Initialize parent[i] to -1
-
-        // Mark visited vertices
-        boolean[] isVisited = new boolean[vertices.size()];
-
-        // Recursively search
-        dfs(v, parent, searchOrder, isVisited);
-
-        // Return a search tree
-        return new Tree(v, parent, searchOrder);
+        TraversalContext context = new TraversalContext(vertices.size());
+        return toTree(v, dfs(v, context), context);
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       dfs
-     * Description  Overloaded Depth-First Search method.
-     * Date         11/17/2023 
+     * Description  Depth-First Search from vertex v into context, which is
+     *              reset first, by GraphTraversal.dfs. The recursion is
+     *              replaced by the context's stack, so a long chain of
+     *              vertices cannot overflow the call stack, and vertices are
+     *              visited in the same order as the recursive search. Only
+     *              a neighbor cursor is allocated once the context has grown
+     *              to the size of the graph. Returns the number of vertices
+     *              found.
+     * Date         10/18/2026 
      * @author      <i>Kirill Grichanichenko</i>
-     * @param       u int
-     * @param       parent int[]
-     * @param       searchOrder List<Integer>
-     * @param       isVisited Boolean[]
-    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
-    private void dfs(int u, int[] parent, List<Integer> searchOrder,
-        boolean[] isVisited) 
+     * @param       v int
+     * @param       context TraversalContext
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int dfs(int v, TraversalContext context) 
     {
-        // Store the visited vertex
-        searchOrder.add(u);
-        isVisited[u] = true; // Vertex v visited
-
-        for (Edge e : neighbors.get(u)) 
-        {
-            if (!isVisited[e.v]) 
-            {
-                parent[e.v] = u; // The parent of vertex e.v is u
-                dfs(e.v, parent, searchOrder, isVisited); // Recursive search
-            }
-        }
+        return GraphTraversal.dfs(createNeighborCursor(), vertices.size(), v, context);
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       bfs
-     * Description  Breadth-First Search method. Obtain a DFS tree starting from 
-     *              vertex v. Creates a parents int array and Boolean array for 
-     *              the visited vertices. Returns a Tree object.
+     * Description  Breadth-First Search method. Obtain a BFS tree starting from 
+     *              vertex v. The search runs in a TraversalContext of its
+     *              own, and its parents and search order are copied into
+     *              the returned Tree. Returns a Tree object.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       v int
@@ -455,33 +914,83 @@ public abstract class AbstractGraph<V> implements Graph<V>
     @Override
     public Tree bfs(int v) 
     {
-        List<Integer> searchOrder = new ArrayList<>();
-        int[] parent = new int[vertices.size()];
-        for (int i = 0; i < parent.length; i++)
-          parent[i] = -1; // Initialize parent[i] to -1
+        TraversalContext context = new TraversalContext(vertices.size());
+        return toTree(v, bfs(v, context), context);
+    }
 
-        java.util.LinkedList<Integer> queue =
-            new java.util.LinkedList<>(); // list used as a queue
-        boolean[] isVisited = new boolean[vertices.size()];
-        queue.offer(v); // Enqueue v
-        isVisited[v] = true; // Mark it visited
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       toTree
+     * Description  Copy the parents and search order of the traversal in
+     *              context into a new Tree rooted at v.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       found int
+     * @param       context TraversalContext
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private Tree toTree(int v, int found, TraversalContext context) 
+    {
+        int[] parent = GraphTraversal.copyParents(context, vertices.size());
+        int[] searchOrder = Arrays.copyOf(context.getSearchOrder(), found);
 
-        while (!queue.isEmpty()) 
-        {
-            int u = queue.poll(); // Dequeue to u
-            searchOrder.add(u); // u searched
-            for (Edge e: neighbors.get(u)) 
-            {
-                if (!isVisited[e.v]) 
-                {
-                    queue.offer(e.v); // Enqueue w
-                    parent[e.v] = u; // The parent of w is u
-                    isVisited[e.v] = true; // Mark it visited
-                }
-            }
-        }
+        return new Tree(v, parent, searchOrder, found);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs
+     * Description  Breadth-First Search from vertex v into context, which is
+     *              reset first. The parents and search order are read from
+     *              the context afterwards. Only a neighbor cursor is
+     *              allocated once the context has grown to the size of the
+     *              graph. Returns the number of vertices found.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       context TraversalContext
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int bfs(int v, TraversalContext context) 
+    {
+        return bfs(v, -1, context);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isReachable
+     * Description  Return true if there is a path from u to v. The search
+     *              runs in context and stops as soon as v is found.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @param       context TraversalContext
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isReachable(int u, int v, TraversalContext context) 
+    {
+        if (v < 0 || v > getSize() - 1)
+            throw new IllegalArgumentException("No such index: " + v);
+
+        bfs(u, v, context);
+        return context.isVisited(v);
+    }
 
-        return new Tree(v, parent, searchOrder);
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs
+     * Description  Breadth-First Search from vertex v into context, stopping
+     *              once target is visited, or searching everything reachable
+     *              if target is -1. Returns the number of vertices found.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       target int
+     * @param       context TraversalContext
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int bfs(int v, int target, TraversalContext context) 
+    {
+        return GraphTraversal.bfs(createNeighborCursor(), vertices.size(), v, target,
+            context);
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -513,6 +1022,22 @@ public abstract class AbstractGraph<V> implements Graph<V>
             this.searchOrder = searchOrder;
         }
 
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Constructor   Tree()-overloaded constructor
+        * Description   Construct a tree whose search order is the first found
+        *               entries of an int array, wrapped rather than boxed.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        root int
+        * @param        parent int[]
+        * @param        searchOrder int[]
+        * @param        found int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+        public Tree(int root, int[] parent, int[] searchOrder, int found) 
+        {
+            this(root, parent, new SearchOrderView(searchOrder, found));
+        }
+
         /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
         * Method       getRoot
         * Description  Return the root of the tree.
@@ -664,4 +1189,61 @@ public abstract class AbstractGraph<V> implements Graph<V>
             return out;
         }
     }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        SearchOrderView
+     * Description  Read-only List view of the first size entries of an int
+     *              array, so a search order is not boxed until it is read.
+     * Date         10/18/2026 
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class SearchOrderView extends AbstractList<Integer>
+        implements RandomAccess
+    {
+        private final int[] order;
+        private final int size;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Constructor   SearchOrderView()
+        * Description   Wrap the first size entries of order.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        order int[]
+        * @param        size int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+        private SearchOrderView(int[] order, int size)
+        {
+            this.order = order;
+            this.size = size;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        get
+        * Description   Return the vertex searched at position index.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        index int
+        * @return       vertex Integer
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public Integer get(int index)
+        {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return order[index];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        size
+        * Description   Return the number of vertices searched.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @return       size int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
 }
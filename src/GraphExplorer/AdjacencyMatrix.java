@@ -0,0 +1,182 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        AdjacencyMatrix.java
+ * Description  Dense weighted graph stored as an n by n matrix of edge
+ *              weights, infinite where there is no edge. It takes 8n^2
+ *              bytes whatever the number of edges, so it only pays off for
+ *              dense graphs of a few thousand vertices, where a weight
+ *              lookup is one array read and FloydWarshall can sweep whole
+ *              rows. Parallel edges keep the smallest weight.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class AdjacencyMatrix
+{
+    private final double[][] weights;   // weights[u][v] is the weight of (u, v)
+    private int numberOfEdges;          // Finite entries of the matrix
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  AdjacencyMatrix()
+     * Description  Construct a matrix of numberOfVertices vertices and no
+     *              edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       numberOfVertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AdjacencyMatrix(int numberOfVertices)
+    {
+        weights = new double[numberOfVertices][numberOfVertices];
+        for (double[] row : weights)
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  AdjacencyMatrix()-overloaded constructor
+     * Description  Copy the edges of a WeightedGraph into a matrix.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AdjacencyMatrix(WeightedGraph<?> graph)
+    {
+        this(graph.getSize());
+        for (int u = 0; u < weights.length; u++)
+        {
+            for (AbstractGraph.Edge e : graph.neighbors.get(u))
+                addEdge(u, e.v, ((WeightedEdge)e).weight);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addEdge()
+     * Description  Add the edge (u, v), or lower the weight of an existing
+     *              one. Return true if the matrix changed.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @param       weight double
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean addEdge(int u, int v, double weight)
+    {
+        checkIndex(u);
+        checkIndex(v);
+        if (weight >= weights[u][v])
+            return false;
+
+        if (weights[u][v] == Double.POSITIVE_INFINITY)
+            numberOfEdges++;
+        weights[u][v] = weight;
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       hasEdge()
+     * Description  Return true if the edge (u, v) exists.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean hasEdge(int u, int v)
+    {
+        return weights[u][v] != Double.POSITIVE_INFINITY;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeight()
+     * Description  Return the weight of the edge (u, v), infinite if there
+     *              is none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getWeight(int u, int v)
+    {
+        return weights[u][v];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getRow()
+     * Description  Return the weights of the edges leaving u. The array is
+     *              shared, not copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      row double[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    double[] getRow(int u)
+    {
+        return weights[u];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSize()
+     * Description  Return the number of vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSize()
+    {
+        return weights.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfEdges()
+     * Description  Return the number of directed edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfEdges()
+    {
+        return numberOfEdges;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDensity()
+     * Description  Return the number of edges over the n(n - 1) possible
+     *              edges between distinct vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      density double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getDensity()
+    {
+        long n = weights.length;
+        return n < 2 ? 0 : (double)numberOfEdges / (n * (n - 1));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the number of bytes held by the matrix entries.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 8L * weights.length * weights.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       checkIndex()
+     * Description  Throw IllegalArgumentException if v is not a vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void checkIndex(int v)
+    {
+        if (v < 0 || v >= weights.length)
+            throw new IllegalArgumentException("No such index: " + v);
+    }
+}
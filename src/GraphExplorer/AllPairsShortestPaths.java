@@ -0,0 +1,245 @@
+package GraphExplorer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        AllPairsShortestPaths.java
+ * Description  All-pairs shortest path distances by running Dijkstra's
+ *              algorithm from every vertex of a CSRGraph in parallel on a
+ *              ForkJoinPool. A run starts one task per worker of the pool;
+ *              each task allocates one cost array and IndexedMinHeap and
+ *              reuses them while it claims SOURCES_PER_TASK sources at a
+ *              time from a shared counter, so the searches allocate nothing
+ *              and nothing outlives the run. Each finished row is handed
+ *              to a RowConsumer, or collected into a float matrix.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class AllPairsShortestPaths
+{
+    // Sources a task claims at a time
+    private static final int SOURCES_PER_TASK = 16;
+
+    private final CSRGraph graph;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Interface    RowConsumer
+     * Description  Receives one row of the distance matrix. Rows are
+     *              delivered from the worker threads in no particular
+     *              order, so implementations must be thread safe. The costs
+     *              array is reused for the next row of the same worker and
+     *              must be copied if it is kept.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @FunctionalInterface
+    public interface RowConsumer
+    {
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       accept()
+         * Description  Receive the distances from source to every vertex,
+         *              infinite for vertices it cannot reach.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       source int
+         * @param       costs double[]
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        void accept(int source, double[] costs);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  AllPairsShortestPaths()
+     * Description  Prepare all-pairs searches over a WeightedGraph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AllPairsShortestPaths(WeightedGraph<?> graph)
+    {
+        this(new CSRGraph(graph));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  AllPairsShortestPaths()
+     * Description  Prepare all-pairs searches over a CSRGraph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph CSRGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AllPairsShortestPaths(CSRGraph graph)
+    {
+        this.graph = graph;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachRow()
+     * Description  Search from every vertex on the common pool and pass
+     *              each row to consumer.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       consumer RowConsumer
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void forEachRow(RowConsumer consumer)
+    {
+        forEachRow(consumer, ForkJoinPool.commonPool());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachRow()
+     * Description  Search from every vertex on the given pool and pass each
+     *              row to consumer. Returns when every row is delivered.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       consumer RowConsumer
+     * @param       pool ForkJoinPool
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void forEachRow(RowConsumer consumer, ForkJoinPool pool)
+    {
+        int chunks = (graph.getSize() + SOURCES_PER_TASK - 1) / SOURCES_PER_TASK;
+        int workers = Math.max(1, Math.min(pool.getParallelism(), chunks));
+        pool.invoke(new RowTask(workers, new AtomicInteger(), consumer));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDistanceMatrix()
+     * Description  Return the distance matrix computed on the common pool.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      matrix float[][]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public float[][] getDistanceMatrix()
+    {
+        return getDistanceMatrix(ForkJoinPool.commonPool());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDistanceMatrix()
+     * Description  Return the distance matrix computed on the given pool.
+     *              Row u holds the distances from u as floats, half the
+     *              size of doubles; unreachable entries are infinite.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       pool ForkJoinPool
+     * @return      matrix float[][]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public float[][] getDistanceMatrix(ForkJoinPool pool)
+    {
+        int n = graph.getSize();
+        float[][] matrix = new float[n][];
+        forEachRow((source, costs) ->
+        {
+            float[] row = new float[n];
+            for (int v = 0; v < n; v++)
+                row[v] = (float)costs[v];
+            matrix[source] = row; // Published by the join in invoke
+        }, pool);
+        return matrix;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       search()
+     * Description  Dijkstra from source into the worker's scratch cost
+     *              array, then hand the row to consumer.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       consumer RowConsumer
+     * @param       local Scratch of the calling task
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void search(int source, RowConsumer consumer, Scratch local)
+    {
+        graph.getShortestPath(source, local.cost, local.queue, null, null);
+        consumer.accept(source, local.cost);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        RowTask
+     * Description  Fork-join task standing for a number of workers. It
+     *              splits until it stands for one, which then searches the
+     *              sources it claims from next with a single Scratch.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class RowTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int workers;
+        private final AtomicInteger next;   // First source no task has claimed
+        private final RowConsumer consumer;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  RowTask()
+         * Description  Construct a task for the given number of workers.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       workers int
+         * @param       next AtomicInteger, shared by the whole run
+         * @param       consumer RowConsumer
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private RowTask(int workers, AtomicInteger next, RowConsumer consumer)
+        {
+            this.workers = workers;
+            this.next = next;
+            this.consumer = consumer;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       compute()
+         * Description  Split the workers in two halves, or as one worker
+         *              claim SOURCES_PER_TASK sources at a time until none
+         *              are left. Claiming instead of fixed ranges keeps the
+         *              workers busy when some searches take longer.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        protected void compute()
+        {
+            if (workers > 1)
+            {
+                int half = workers >>> 1;
+                invokeAll(new RowTask(half, next, consumer),
+                    new RowTask(workers - half, next, consumer));
+                return;
+            }
+
+            int n = graph.getSize();
+            Scratch local = new Scratch(n);
+            int low;
+            while ((low = next.getAndAdd(SOURCES_PER_TASK)) < n)
+            {
+                int high = Math.min(low + SOURCES_PER_TASK, n);
+                for (int source = low; source < high; source++)
+                    search(source, consumer, local);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        Scratch
+     * Description  Search arrays owned by one worker for a run.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class Scratch
+    {
+        private final double[] cost;
+        private final IndexedMinHeap queue;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  Scratch()
+         * Description  Allocate the arrays for a graph of n vertices.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       n int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private Scratch(int n)
+        {
+            cost = new double[n];
+            queue = new IndexedMinHeap(n);
+        }
+    }
+}
@@ -0,0 +1,649 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        CSRGraph.java
+ * Description  Immutable compressed sparse row snapshot of a weighted graph.
+ *              The edges leaving vertex u are the slots offsets[u] to
+ *              offsets[u + 1] - 1 of the targets and weights arrays, so a
+ *              graph takes 4 bytes per vertex and 12 bytes per edge with no
+ *              object per edge, and neighbor traversal reads memory in
+ *              order. Dijkstra's and Prim's algorithms run directly on the
+ *              arrays, depth-first and breadth-first search are the shared
+ *              GraphTraversal over a neighbor cursor, and all return a
+ *              SearchTree. A snapshot does not follow later changes to the
+ *              graph it was built from.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class CSRGraph
+{
+    private final int[] offsets;    // Edges of u are [offsets[u], offsets[u + 1])
+    private final int[] targets;    // targets[i] is the end vertex of edge i
+    private final double[] weights; // weights[i] is the weight of edge i
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  CSRGraph()
+     * Description  Snapshot a WeightedGraph, keeping the order of every
+     *              adjacency list.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public CSRGraph(WeightedGraph<?> graph)
+    {
+        int n = graph.getSize();
+        offsets = new int[n + 1];
+        for (int u = 0; u < n; u++)
+            offsets[u + 1] = offsets[u] + graph.neighbors.get(u).size();
+
+        targets = new int[offsets[n]];
+        weights = new double[offsets[n]];
+        int i = 0;
+        for (int u = 0; u < n; u++)
+        {
+            for (AbstractGraph.Edge e : graph.neighbors.get(u))
+            {
+                targets[i] = e.v;
+                weights[i] = ((WeightedEdge)e).weight;
+                i++;
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  CSRGraph()-overloaded constructor
+     * Description  Build a graph on vertices 0..numberOfVertices-1 straight
+     *              from an edge list, without going through a WeightedGraph.
+     *              Edges leaving the same vertex keep their list order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges List WeightedEdge
+     * @param       numberOfVertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public CSRGraph(List<WeightedEdge> edges, int numberOfVertices)
+    {
+        offsets = new int[numberOfVertices + 1];
+        for (WeightedEdge edge : edges)
+        {
+            if (edge.u < 0 || edge.u >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + edge.u);
+            if (edge.v < 0 || edge.v >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + edge.v);
+            offsets[edge.u + 1]++;
+        }
+        for (int u = 0; u < numberOfVertices; u++)
+            offsets[u + 1] += offsets[u];
+
+        targets = new int[edges.size()];
+        weights = new double[edges.size()];
+        int[] next = Arrays.copyOf(offsets, numberOfVertices);
+        for (WeightedEdge edge : edges)
+        {
+            int i = next[edge.u]++;
+            targets[i] = edge.v;
+            weights[i] = edge.weight;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  CSRGraph()-overloaded constructor
+     * Description  Build a graph on vertices 0..numberOfVertices-1 straight
+     *              from an EdgeStore, with no WeightedEdge objects at all.
+     *              Edges leaving the same vertex keep their store order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges EdgeStore
+     * @param       numberOfVertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public CSRGraph(EdgeStore edges, int numberOfVertices)
+    {
+        int m = edges.size();
+        offsets = new int[numberOfVertices + 1];
+        for (int i = 0; i < m; i++)
+        {
+            int u = edges.getSource(i);
+            int v = edges.getTarget(i);
+            if (u < 0 || u >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + u);
+            if (v < 0 || v >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + v);
+            offsets[u + 1]++;
+        }
+        for (int u = 0; u < numberOfVertices; u++)
+            offsets[u + 1] += offsets[u];
+
+        targets = new int[m];
+        weights = new double[m];
+        int[] next = Arrays.copyOf(offsets, numberOfVertices);
+        for (int i = 0; i < m; i++)
+        {
+            int slot = next[edges.getSource(i)]++;
+            targets[slot] = edges.getTarget(i);
+            weights[slot] = edges.getWeight(i);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSize()
+     * Description  Return the number of vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSize()
+    {
+        return offsets.length - 1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfEdges()
+     * Description  Return the number of directed edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfEdges()
+    {
+        return targets.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDegree()
+     * Description  Return the number of edges leaving vertex u.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      degree int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getDegree(int u)
+    {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getFirstEdge()
+     * Description  Return the slot of the first edge leaving vertex u.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getFirstEdge(int u)
+    {
+        return offsets[u];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEndEdge()
+     * Description  Return one past the slot of the last edge leaving u.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getEndEdge(int u)
+    {
+        return offsets[u + 1];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getTarget()
+     * Description  Return the end vertex of the edge in the given slot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edge int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getTarget(int edge)
+    {
+        return targets[edge];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeight()
+     * Description  Return the weight of the edge in the given slot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edge int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getWeight(int edge)
+    {
+        return weights[edge];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the number of bytes held by the three arrays.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 4L * offsets.length + 4L * targets.length + 8L * weights.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createNeighborCursor()
+     * Description  Return a new cursor over the edge slots of a vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      cursor NeighborCursor
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public Graph.NeighborCursor createNeighborCursor()
+    {
+        return new SlotNeighborCursor();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       dfs()
+     * Description  Depth-first search from v by GraphTraversal.dfs, visiting
+     *              vertices in the same order as AbstractGraph.dfs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      tree SearchTree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public SearchTree dfs(int v)
+    {
+        int n = getSize();
+        TraversalContext context = new TraversalContext(n);
+        int found = GraphTraversal.dfs(createNeighborCursor(), n, v, context);
+        return new SearchTree(v, GraphTraversal.copyParents(context, n),
+            context.getSearchOrder(), found, null, 0);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs()
+     * Description  Breadth-first search from v by GraphTraversal.bfs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      tree SearchTree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public SearchTree bfs(int v)
+    {
+        int n = getSize();
+        TraversalContext context = new TraversalContext(n);
+        int found = GraphTraversal.bfs(createNeighborCursor(), n, v, -1, context);
+        return new SearchTree(v, GraphTraversal.copyParents(context, n),
+            context.getSearchOrder(), found, null, 0);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getShortestPath()
+     * Description  Dijkstra's single source shortest paths with an
+     *              IndexedMinHeap, as in WeightedGraph.getShortestPath.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       sourceVertex int
+     * @return      tree SearchTree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public SearchTree getShortestPath(int sourceVertex)
+    {
+        int n = getSize();
+        double[] cost = new double[n];
+        int[] parent = newParentArray(n);
+        int[] searchOrder = new int[n];
+        int found = getShortestPath(sourceVertex, cost, new IndexedMinHeap(n), parent,
+            searchOrder);
+
+        return new SearchTree(sourceVertex, parent, searchOrder, found, cost, 0);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getShortestPath()-overloaded method
+     * Description  Dijkstra's single source shortest paths into arrays the
+     *              caller owns, so repeated searches allocate nothing. cost
+     *              is overwritten with the distance of every vertex,
+     *              infinite if it cannot be reached, and queue must be
+     *              empty. parent, if not null, gets the parent of every
+     *              vertex reached and must be filled with -1 beforehand;
+     *              searchOrder, if not null, gets the vertices in the order
+     *              they are settled. The weights must not be negative, so a
+     *              settled vertex never improves. Returns the number of
+     *              vertices reached.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       sourceVertex int
+     * @param       cost double[]
+     * @param       queue IndexedMinHeap
+     * @param       parent int[]
+     * @param       searchOrder int[]
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getShortestPath(int sourceVertex, double[] cost, IndexedMinHeap queue,
+        int[] parent, int[] searchOrder)
+    {
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        cost[sourceVertex] = 0;
+        int found = 0;
+
+        queue.insertOrDecrease(sourceVertex, 0);
+        while (!queue.isEmpty())
+        {
+            int u = queue.poll();
+            if (searchOrder != null)
+                searchOrder[found] = u;
+            found++;
+            for (int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int w = targets[i];
+                double newCost = cost[u] + weights[i];
+                if (newCost < cost[w]) // Never true for a settled w
+                {
+                    cost[w] = newCost;
+                    if (parent != null)
+                        parent[w] = u;
+                    queue.insertOrDecrease(w, newCost);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMinimumSpanningTree()
+     * Description  Prim's minimum spanning tree rooted at startingVertex
+     *              with an IndexedMinHeap, as in
+     *              WeightedGraph.getMinimumSpanningTree. getCost(v) of the
+     *              result is the weight of the edge joining v to the tree.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       startingVertex int
+     * @return      tree SearchTree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public SearchTree getMinimumSpanningTree(int startingVertex)
+    {
+        int n = getSize();
+        double[] cost = new double[n];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        cost[startingVertex] = 0;
+        int[] parent = newParentArray(n);
+        int[] searchOrder = new int[n];
+        int found = 0;
+        boolean[] isInTree = new boolean[n];
+        double totalWeight = 0;
+
+        IndexedMinHeap queue = new IndexedMinHeap(n);
+        queue.insertOrDecrease(startingVertex, 0);
+        while (!queue.isEmpty())
+        {
+            int u = queue.poll();
+            searchOrder[found++] = u;
+            isInTree[u] = true;
+            totalWeight += cost[u];
+            for (int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int w = targets[i];
+                if (!isInTree[w] && cost[w] > weights[i])
+                {
+                    cost[w] = weights[i];
+                    parent[w] = u;
+                    queue.insertOrDecrease(w, weights[i]);
+                }
+            }
+        }
+
+        return new SearchTree(startingVertex, parent, searchOrder, found, cost,
+            totalWeight);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       newParentArray()
+     * Description  Return a parent array of size n filled with -1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       n int
+     * @return      parent int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static int[] newParentArray(int n)
+    {
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        return parent;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        SlotNeighborCursor
+     * Description  NeighborCursor walking the edge slots of one vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class SlotNeighborCursor implements Graph.NeighborCursor
+    {
+        private int first; // First slot of the vertex
+        private int edge;  // Slot of the current edge
+        private int end;   // One past the last slot of the vertex
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the edges leaving u.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u)
+        {
+            reset(u, 0);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the edges leaving u before edge
+         *              position of them.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u, int position)
+        {
+            first = offsets[u];
+            edge = first + position - 1;
+            end = offsets[u + 1];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       next()
+         * Description  Move to the next edge. Return false if there is none.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public boolean next()
+        {
+            return ++edge < end;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getPosition()
+         * Description  Return the position of the current edge among the
+         *              edges of the vertex.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getPosition()
+        {
+            return edge - first;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getTarget()
+         * Description  Return the vertex the current edge leads to.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getTarget()
+        {
+            return targets[edge];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getWeight()
+         * Description  Return the weight of the current edge.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      weight double
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public double getWeight()
+        {
+            return weights[edge];
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        SearchTree
+     * Description  Result of a search on a CSRGraph: the primitive
+     *              counterpart of AbstractGraph.Tree, with the costs of a
+     *              shortest path tree and the total weight of an MST.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static class SearchTree
+    {
+        private final int root;           // The root of the tree
+        private final int[] parent;       // Store the parent of each vertex
+        private final int[] searchOrder;  // Store the search order
+        private final int found;          // Number of vertices reached
+        private final double[] cost;      // Per-vertex cost, null for dfs/bfs
+        private final double totalWeight; // Total weight of an MST
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Constructor   SearchTree()
+        * Description   Construct a tree from the arrays filled by a search.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        root int
+        * @param        parent int[]
+        * @param        searchOrder int[]
+        * @param        found int
+        * @param        cost double[]
+        * @param        totalWeight double
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public SearchTree(int root, int[] parent, int[] searchOrder, int found,
+            double[] cost, double totalWeight)
+        {
+            this.root = root;
+            this.parent = parent;
+            this.searchOrder = searchOrder;
+            this.found = found;
+            this.cost = cost;
+            this.totalWeight = totalWeight;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getRoot
+        * Description   Return the root of the tree.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @return       root int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public int getRoot()
+        {
+            return root;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getParent
+        * Description   Return the parent of vertex v, -1 for the root and
+        *               for vertices that were not reached.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        v int
+        * @return       parent int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public int getParent(int v)
+        {
+            return parent[v];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getSearchOrder
+        * Description   Return the vertices in the order they were reached.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @return       order int[]
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public int[] getSearchOrder()
+        {
+            return found == searchOrder.length ? searchOrder
+                : Arrays.copyOf(searchOrder, found);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getNumberOfVerticesFound
+        * Description   Return number of vertices found.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @return       vertices int
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public int getNumberOfVerticesFound()
+        {
+            return found;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getCost
+        * Description   Return the shortest path cost of v, or for an MST the
+        *               weight of the edge joining v to the tree.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        v int
+        * @return       cost double
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public double getCost(int v)
+        {
+            if (cost == null)
+                throw new UnsupportedOperationException("Tree has no costs");
+
+            return cost[v];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getTotalWeight
+        * Description   Return the total weight of a minimum spanning tree.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @return       totalWeight double
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public double getTotalWeight()
+        {
+            return totalWeight;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+        * Method        getPath
+        * Description   Return the path of vertices from a vertex to the root.
+        * Date          10/18/2026
+        * @author       <i>Kirill Grichanichenko</i>
+        * @param        index int
+        * @return       vertices int[]
+       *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        public int[] getPath(int index)
+        {
+            int length = 0;
+            for (int v = index; v != -1; v = parent[v])
+                length++;
+
+            int[] path = new int[length];
+            int i = 0;
+            for (int v = index; v != -1; v = parent[v])
+                path[i++] = v;
+            return path;
+        }
+    }
+}
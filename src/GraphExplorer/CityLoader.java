@@ -0,0 +1,202 @@
+package GraphExplorer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        CityLoader.java
+ * Description  Reader for the city files in src/Data, one city per line in
+ *              vertex order. A line may end with the latitude and longitude
+ *              of the city in degrees:
+ *                  Seattle
+ *                  Seattle, 47.6062, -122.3321
+ *              Either every city has coordinates or none does. When they
+ *              are present getHeuristic returns a GreatCircleHeuristic for
+ *              A*, otherwise Heuristic.ZERO so queries run as Dijkstra.
+ *              Malformed input raises an IllegalArgumentException naming the
+ *              line.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class CityLoader
+{
+    private final List<String> names = new ArrayList<>();
+    private double[] latitudes;     // null when the file has no coordinates
+    private double[] longitudes;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  CityLoader()
+     * Description  Use load to create a loader.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private CityLoader()
+    {
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Read the city file with the given name.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       fileName String
+     * @return      loader CityLoader
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static CityLoader load(String fileName) throws IOException
+    {
+        return load(Paths.get(fileName));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Read the city file at the given path. Blank lines are
+     *              skipped.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @return      loader CityLoader
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static CityLoader load(Path path) throws IOException
+    {
+        CityLoader loader = new CityLoader();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        List<double[]> coordinates = new ArrayList<>();
+        int firstWithout = 0;   // Line of the first city without coordinates
+        int firstWith = 0;      // Line of the first city with coordinates
+
+        for (int i = 0; i < lines.size(); i++)
+        {
+            String line = lines.get(i).trim();
+            if (line.isEmpty())
+                continue;
+
+            int last = line.lastIndexOf(',');
+            int middle = last > 0 ? line.lastIndexOf(',', last - 1) : -1;
+            double[] point = middle > 0 ? parseCoordinates(line, middle, last, i + 1) : null;
+            if (point == null)
+            {
+                loader.names.add(line);
+                if (firstWithout == 0)
+                    firstWithout = i + 1;
+            }
+            else
+            {
+                loader.names.add(line.substring(0, middle).trim());
+                coordinates.add(point);
+                if (firstWith == 0)
+                    firstWith = i + 1;
+            }
+        }
+
+        if (firstWith > 0 && firstWithout > 0)
+            throw new IllegalArgumentException("Line " + Math.max(firstWith, firstWithout)
+                + ": either every city or none must have coordinates");
+
+        if (firstWith > 0)
+        {
+            int n = coordinates.size();
+            loader.latitudes = new double[n];
+            loader.longitudes = new double[n];
+            for (int v = 0; v < n; v++)
+            {
+                loader.latitudes[v] = coordinates.get(v)[0];
+                loader.longitudes[v] = coordinates.get(v)[1];
+            }
+        }
+        return loader;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       parseCoordinates()
+     * Description  Parse the last two comma separated fields of a line as a
+     *              latitude and longitude. Returns null if either is not a
+     *              number, in which case the whole line is the city name.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       line String
+     * @param       middle int, index of the comma before the latitude
+     * @param       last int, index of the comma before the longitude
+     * @param       lineNumber int
+     * @return      {latitude, longitude} double[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static double[] parseCoordinates(String line, int middle, int last, int lineNumber)
+    {
+        double latitude;
+        double longitude;
+        try
+        {
+            latitude = Double.parseDouble(line.substring(middle + 1, last).trim());
+            longitude = Double.parseDouble(line.substring(last + 1).trim());
+        }
+        catch (NumberFormatException exp)
+        {
+            return null;
+        }
+
+        if (!(latitude >= -90 && latitude <= 90))
+            throw new IllegalArgumentException("Line " + lineNumber
+                + ": latitude out of range: " + latitude);
+        if (!(longitude >= -180 && longitude <= 180))
+            throw new IllegalArgumentException("Line " + lineNumber
+                + ": longitude out of range: " + longitude);
+        return new double[] {latitude, longitude};
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfCities()
+     * Description  Return the number of cities read.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      number of cities int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfCities()
+    {
+        return names.size();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNames()
+     * Description  Return the city names in vertex order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      names List String
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public List<String> getNames()
+    {
+        return names;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       hasCoordinates()
+     * Description  Return true if every city has a latitude and longitude.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean hasCoordinates()
+    {
+        return latitudes != null;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getHeuristic()
+     * Description  Return a GreatCircleHeuristic over the coordinates, or
+     *              Heuristic.ZERO if the file has none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      heuristic Heuristic
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public Heuristic getHeuristic()
+    {
+        if (!hasCoordinates())
+            return Heuristic.ZERO;
+        return new GreatCircleHeuristic(latitudes, longitudes);
+    }
+}
@@ -0,0 +1,1014 @@
+package GraphExplorer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        ContractionHierarchy.java
+ * Description  Contraction hierarchy for answering many point-to-point
+ *              queries on one static graph. Preprocessing contracts the
+ *              vertices one at a time, least important first, adding a
+ *              shortcut between two neighbors of the contracted vertex
+ *              whenever the path through it is the only shortest one. Each
+ *              vertex keeps the edges to the neighbors contracted after it,
+ *              its upward edges, in CSR arrays. A query runs Dijkstra's
+ *              algorithm over upward edges only, from both ends, so it
+ *              settles a few hundred vertices instead of a large part of
+ *              the graph. Shortcuts remember the vertex they bypass and are
+ *              unpacked into the original path on the way out.
+ *
+ *              The graph is treated as undirected, as every edge file is
+ *              loaded; a pair of vertices joined in either direction is
+ *              joined by the lighter of the edges. The hierarchy can be
+ *              saved to a file and loaded again without preprocessing.
+ *              Queries share scratch arrays and are synchronized.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class ContractionHierarchy
+{
+    private static final int MAGIC = 0x47584348;    // "GXCH"
+    private static final int VERSION = 1;
+    // Vertices a witness search may settle before giving up
+    private static final int WITNESS_SETTLE_LIMIT = 200;
+
+    private final int[] rank;       // rank[v] is the position of v in the contraction order
+    private final int[] offsets;    // Upward edges of u are offsets[u]..offsets[u+1]-1
+    private final int[] targets;
+    private final double[] weights;
+    private final int[] middle;     // Vertex a shortcut bypasses, -1 for an original edge
+    private final int numberOfShortcuts;
+
+    // Query scratch, reset through the touched lists after every query
+    private double[][] cost;
+    private int[][] parentEdge;
+    private int[][] touched;
+    private int[] touchedSize;
+    private IndexedMinHeap[] queue;
+    private int lastMeet;           // Top of the path found by the last search
+    private int lastSettled;        // Vertices settled by the last search
+    private int[] path = new int[16];
+    private int pathLength;
+    private int[] stack = new int[48];
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  ContractionHierarchy()
+     * Description  Preprocess a WeightedGraph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public ContractionHierarchy(WeightedGraph<?> graph)
+    {
+        this(new CSRGraph(graph));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  ContractionHierarchy()
+     * Description  Preprocess a CSRGraph. Vertices are contracted in order
+     *              of edge difference (shortcuts added minus edges removed)
+     *              plus the number of neighbors already contracted and the
+     *              depth of the hierarchy below the vertex, which spreads the
+     *              contraction evenly over the graph. Priorities
+     *              are updated lazily: the vertex on top of the queue is
+     *              re-evaluated and put back if it is no longer the minimum.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph CSRGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public ContractionHierarchy(CSRGraph graph)
+    {
+        Contractor contractor = new Contractor(graph);
+        int n = graph.getSize();
+        rank = new int[n];
+
+        IndexedMinHeap order = new IndexedMinHeap(n);
+        for (int v = 0; v < n; v++)
+            order.insertOrDecrease(v, contractor.priority(v));
+
+        int next = 0;
+        while (!order.isEmpty())
+        {
+            int v = order.poll();
+            double priority = contractor.priority(v);
+            if (!order.isEmpty() && priority > order.peekKey())
+            {
+                order.insertOrDecrease(v, priority); // Lazy update
+                continue;
+            }
+            contractor.contract(v);
+            rank[v] = next++;
+        }
+
+        // What is left of each adjacency list are the upward edges
+        offsets = new int[n + 1];
+        for (int v = 0; v < n; v++)
+            offsets[v + 1] = offsets[v] + contractor.degree[v];
+        targets = new int[offsets[n]];
+        weights = new double[offsets[n]];
+        middle = new int[offsets[n]];
+        for (int v = 0; v < n; v++)
+        {
+            System.arraycopy(contractor.adjacent[v], 0, targets, offsets[v], contractor.degree[v]);
+            System.arraycopy(contractor.weight[v], 0, weights, offsets[v], contractor.degree[v]);
+            System.arraycopy(contractor.middle[v], 0, middle, offsets[v], contractor.degree[v]);
+        }
+        numberOfShortcuts = countShortcuts();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  ContractionHierarchy()
+     * Description  Wrap arrays read by load.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       rank int[]
+     * @param       offsets int[]
+     * @param       targets int[]
+     * @param       weights double[]
+     * @param       middle int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private ContractionHierarchy(int[] rank, int[] offsets, int[] targets,
+        double[] weights, int[] middle)
+    {
+        this.rank = rank;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.middle = middle;
+        numberOfShortcuts = countShortcuts();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       countShortcuts()
+     * Description  Return the number of upward edges that are shortcuts.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      number of shortcuts int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int countShortcuts()
+    {
+        int count = 0;
+        for (int m : middle)
+        {
+            if (m != -1)
+                count++;
+        }
+        return count;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSize()
+     * Description  Return the number of vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSize()
+    {
+        return rank.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfEdges()
+     * Description  Return the number of upward edges, shortcuts included.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      number of edges int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfEdges()
+    {
+        return targets.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfShortcuts()
+     * Description  Return the number of shortcuts added by preprocessing.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      number of shortcuts int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfShortcuts()
+    {
+        return numberOfShortcuts;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getRank()
+     * Description  Return the position of v in the contraction order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      rank int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getRank(int v)
+    {
+        return rank[v];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the size of the hierarchy arrays in bytes, not
+     *              counting the query scratch.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 4L * rank.length + 4L * offsets.length + 4L * targets.length
+            + 8L * weights.length + 4L * middle.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       distance()
+     * Description  Return the length of the shortest path from source to
+     *              target, infinite if there is none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      distance double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public synchronized double distance(int source, int target)
+    {
+        checkIndex(source);
+        checkIndex(target);
+        double best = search(source, target);
+        reset();
+        return best;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Return the shortest path from source to target with all
+     *              shortcuts unpacked into vertices of the original graph.
+     *              The settled count is that of the upward searches.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public synchronized GraphPath shortestPath(int source, int target)
+    {
+        checkIndex(source);
+        checkIndex(target);
+        double best = search(source, target);
+        int settled = lastSettled;
+        if (best == Double.POSITIVE_INFINITY)
+        {
+            reset();
+            return new GraphPath(source, target, new int[0], best, settled);
+        }
+
+        // Walk from the meeting vertex down to source and reverse, then
+        // from the meeting vertex down to target
+        pathLength = 0;
+        append(lastMeet);
+        for (int v = lastMeet; v != source; )
+        {
+            int edge = parentEdge[0][v];
+            int to = otherEnd(edge, v);
+            unpack(v, to, middle[edge]);
+            v = to;
+        }
+        for (int i = 0, j = pathLength - 1; i < j; i++, j--)
+        {
+            int swap = path[i];
+            path[i] = path[j];
+            path[j] = swap;
+        }
+        for (int v = lastMeet; v != target; )
+        {
+            int edge = parentEdge[1][v];
+            int to = otherEnd(edge, v);
+            unpack(v, to, middle[edge]);
+            v = to;
+        }
+        reset();
+        return new GraphPath(source, target, Arrays.copyOf(path, pathLength), best, settled);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       search()
+     * Description  Bidirectional Dijkstra over upward edges. Each side stops
+     *              once its smallest key is at least the best path found;
+     *              unlike plain bidirectional Dijkstra the two sides cannot
+     *              stop when they first meet, since the top of the shortest
+     *              path is only reached from both sides at the end. Leaves
+     *              the meeting vertex in lastMeet.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      distance double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private double search(int source, int target)
+    {
+        if (queue == null)
+        {
+            int n = rank.length;
+            cost = new double[][] {new double[n], new double[n]};
+            parentEdge = new int[][] {new int[n], new int[n]};
+            touched = new int[][] {new int[64], new int[64]};
+            touchedSize = new int[2];
+            queue = new IndexedMinHeap[] {new IndexedMinHeap(n), new IndexedMinHeap(n)};
+            Arrays.fill(cost[0], Double.POSITIVE_INFINITY);
+            Arrays.fill(cost[1], Double.POSITIVE_INFINITY);
+        }
+
+        double best = Double.POSITIVE_INFINITY;
+        lastMeet = -1;
+        lastSettled = 0;
+        reach(0, source, 0, -1);
+        reach(1, target, 0, -1);
+
+        while (true)
+        {
+            boolean forward = !queue[0].isEmpty() && queue[0].peekKey() < best;
+            boolean backward = !queue[1].isEmpty() && queue[1].peekKey() < best;
+            if (!forward && !backward)
+                break;
+            int side = !backward || (forward && queue[0].peekKey() <= queue[1].peekKey()) ? 0 : 1;
+
+            int u = queue[side].poll();
+            lastSettled++;
+            double[] near = cost[side];
+            if (near[u] + cost[1 - side][u] < best)
+            {
+                best = near[u] + cost[1 - side][u];
+                lastMeet = u;
+            }
+            if (isStalled(near, u))
+                continue;
+            for (int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int v = targets[i];
+                double newCost = near[u] + weights[i];
+                if (newCost < near[v])
+                {
+                    reach(side, v, newCost, i);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isStalled()
+     * Description  Stall-on-demand: return true if a higher vertex the
+     *              search has already reached gives u a smaller cost than it
+     *              was settled with. Then u is not on a shortest upward path
+     *              and its edges need not be relaxed.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       near double[], costs of the side being searched
+     * @param       u int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private boolean isStalled(double[] near, int u)
+    {
+        for (int i = offsets[u]; i < offsets[u + 1]; i++)
+        {
+            if (near[targets[i]] + weights[i] < near[u])
+                return true;
+        }
+        return false;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       reach()
+     * Description  Lower the cost of v on one side and queue it, remembering
+     *              v so the scratch arrays can be reset after the query.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       side int, 0 forward, 1 backward
+     * @param       v int
+     * @param       newCost double
+     * @param       edge int, upward edge v was reached by, -1 for none
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void reach(int side, int v, double newCost, int edge)
+    {
+        if (cost[side][v] == Double.POSITIVE_INFINITY)
+        {
+            if (touchedSize[side] == touched[side].length)
+                touched[side] = Arrays.copyOf(touched[side], 2 * touchedSize[side]);
+            touched[side][touchedSize[side]++] = v;
+        }
+        cost[side][v] = newCost;
+        parentEdge[side][v] = edge;
+        queue[side].insertOrDecrease(v, newCost);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       reset()
+     * Description  Clear the scratch arrays in time proportional to the
+     *              number of vertices the last query reached.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void reset()
+    {
+        for (int side = 0; side < 2; side++)
+        {
+            for (int i = 0; i < touchedSize[side]; i++)
+                cost[side][touched[side][i]] = Double.POSITIVE_INFINITY;
+            touchedSize[side] = 0;
+            queue[side].clear();
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       otherEnd()
+     * Description  Return the end of an upward edge that is not v. An
+     *              upward edge is stored at its lower end, so the search
+     *              reached its upper end through it.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edge int
+     * @param       v int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int otherEnd(int edge, int v)
+    {
+        if (targets[edge] != v)
+            return targets[edge];
+        int low = 0;
+        int high = offsets.length - 1;   // Find the owner of the edge
+        while (high - low > 1)
+        {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] <= edge)
+                low = mid;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       unpack()
+     * Description  Append to path the vertices after from on the edge
+     *              from-to, expanding shortcuts with an explicit stack. A
+     *              shortcut bypassing m is replaced by the edges m-from and
+     *              m-to, both stored at m since m was contracted first.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       from int
+     * @param       to int
+     * @param       bypassed int, middle vertex of the edge, -1 for none
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void unpack(int from, int to, int bypassed)
+    {
+        int top = 0;
+        stack[top++] = from;
+        stack[top++] = to;
+        stack[top++] = bypassed;
+        while (top > 0)
+        {
+            int m = stack[--top];
+            int b = stack[--top];
+            int a = stack[--top];
+            if (m == -1)
+            {
+                append(b);
+                continue;
+            }
+            if (top + 6 > stack.length)
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+            // Push m-b first so a-m comes out first
+            stack[top++] = m;
+            stack[top++] = b;
+            stack[top++] = middle[findEdge(m, b)];
+            stack[top++] = a;
+            stack[top++] = m;
+            stack[top++] = middle[findEdge(m, a)];
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       append()
+     * Description  Append v to the path scratch array, growing it if full.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void append(int v)
+    {
+        if (pathLength == path.length)
+            path = Arrays.copyOf(path, 2 * pathLength);
+        path[pathLength++] = v;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       findEdge()
+     * Description  Return the index of the upward edge from u to v.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      edge int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int findEdge(int u, int v)
+    {
+        for (int i = offsets[u]; i < offsets[u + 1]; i++)
+        {
+            if (targets[i] == v)
+                return i;
+        }
+        throw new IllegalStateException("No upward edge " + u + " -> " + v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       checkIndex()
+     * Description  Throw IllegalArgumentException if v is not a vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void checkIndex(int v)
+    {
+        if (v < 0 || v > rank.length - 1)
+            throw new IllegalArgumentException("No such index: " + v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       save()
+     * Description  Write the hierarchy to a binary file: a magic number, the
+     *              format version, the vertex and edge counts, then the rank,
+     *              offset, target, weight and middle arrays.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       fileName String
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void save(String fileName) throws IOException
+    {
+        save(Paths.get(fileName));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       save()
+     * Description  Write the hierarchy to the file at the given path.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void save(Path path) throws IOException
+    {
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rank.length);
+            out.writeInt(targets.length);
+            for (int r : rank)
+                out.writeInt(r);
+            for (int offset : offsets)
+                out.writeInt(offset);
+            for (int target : targets)
+                out.writeInt(target);
+            for (double weight : weights)
+                out.writeDouble(weight);
+            for (int m : middle)
+                out.writeInt(m);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Read a hierarchy written by save.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       fileName String
+     * @return      hierarchy ContractionHierarchy
+     * @throws      java.io.IOException if the file cannot be read or is not
+     *              a well-formed hierarchy file
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static ContractionHierarchy load(String fileName) throws IOException
+    {
+        return load(Paths.get(fileName));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Read a hierarchy written by save from the given path.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @return      hierarchy ContractionHierarchy
+     * @throws      java.io.IOException if the file cannot be read or is not
+     *              a well-formed hierarchy file
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static ContractionHierarchy load(Path path) throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(path), 1 << 16)))
+        {
+            if (in.readInt() != MAGIC)
+                throw new IOException(path + " is not a contraction hierarchy file");
+            int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException(path + ": unsupported version " + version);
+
+            int n = in.readInt();
+            int m = in.readInt();
+            if (n < 0 || m < 0 || Files.size(path) != 20 + 8L * n + 16L * m)
+                throw new IOException(path + ": corrupt header");
+            int[] rank = new int[n];
+            int[] offsets = new int[n + 1];
+            int[] targets = new int[m];
+            double[] weights = new double[m];
+            int[] middle = new int[m];
+            for (int i = 0; i < n; i++)
+                rank[i] = in.readInt();
+            for (int i = 0; i <= n; i++)
+                offsets[i] = in.readInt();
+            for (int i = 0; i < m; i++)
+                targets[i] = in.readInt();
+            for (int i = 0; i < m; i++)
+                weights[i] = in.readDouble();
+            for (int i = 0; i < m; i++)
+                middle[i] = in.readInt();
+            checkStructure(path, rank, offsets, targets, weights, middle);
+            return new ContractionHierarchy(rank, offsets, targets, weights, middle);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       checkStructure()
+     * Description  Check the arrays read by load as a whole, so a damaged
+     *              file fails here and not in the middle of a query: rank
+     *              is a permutation, the offsets never decrease, every edge
+     *              leads upward with a weight that is not negative, and a
+     *              shortcut bypasses a vertex ranked below both ends that
+     *              has upward edges to both.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @param       rank int[]
+     * @param       offsets int[]
+     * @param       targets int[]
+     * @param       weights double[]
+     * @param       middle int[]
+     * @throws      java.io.IOException naming the first damaged array
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void checkStructure(Path path, int[] rank, int[] offsets,
+        int[] targets, double[] weights, int[] middle) throws IOException
+    {
+        int n = rank.length;
+        boolean[] ranked = new boolean[n];
+        for (int r : rank)
+        {
+            if (r < 0 || r >= n || ranked[r])
+                throw new IOException(path + ": corrupt rank");
+            ranked[r] = true;
+        }
+
+        if (offsets[0] != 0 || offsets[n] != targets.length)
+            throw new IOException(path + ": corrupt offsets");
+        for (int u = 0; u < n; u++)
+        {
+            if (offsets[u] > offsets[u + 1])
+                throw new IOException(path + ": corrupt offsets");
+        }
+
+        for (int u = 0; u < n; u++)
+        {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++)
+            {
+                int v = targets[i];
+                if (v < 0 || v >= n || rank[v] <= rank[u])
+                    throw new IOException(path + ": corrupt targets");
+                if (!(weights[i] >= 0))
+                    throw new IOException(path + ": corrupt weights");
+                int bypassed = middle[i];
+                if (bypassed == -1)
+                    continue;
+                if (bypassed < 0 || bypassed >= n || rank[bypassed] >= rank[u]
+                    || !hasUpwardEdge(offsets, targets, bypassed, u)
+                    || !hasUpwardEdge(offsets, targets, bypassed, v))
+                    throw new IOException(path + ": corrupt shortcuts");
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       hasUpwardEdge()
+     * Description  Return true if the arrays hold an upward edge u to v.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       offsets int[]
+     * @param       targets int[]
+     * @param       u int
+     * @param       v int
+     * @return      true or false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static boolean hasUpwardEdge(int[] offsets, int[] targets, int u, int v)
+    {
+        for (int i = offsets[u]; i < offsets[u + 1]; i++)
+        {
+            if (targets[i] == v)
+                return true;
+        }
+        return false;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        Contractor
+     * Description  Working state of the preprocessing. Every vertex has a
+     *              growable adjacency list of the neighbors not contracted
+     *              yet; contracting v removes v from its neighbors' lists and
+     *              leaves v's own list, its upward edges, untouched.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class Contractor
+    {
+        private final int[][] adjacent;
+        private final double[][] weight;
+        private final int[][] middle;
+        private final int[] degree;
+        private final int[] contractedNeighbors;
+        private final int[] level;      // Depth of the hierarchy below each vertex
+
+        // Witness search scratch
+        private final double[] distance;
+        private final int[] reached;
+        private final IndexedMinHeap queue;
+        private final int[] mark;       // mark[w] == stamp for the current targets
+        private int stamp;
+
+        // Shortcuts found by the last call to findShortcuts
+        private int[] shortcutFrom = new int[16];
+        private int[] shortcutTo = new int[16];
+        private double[] shortcutWeight = new double[16];
+        private int shortcuts;
+        private int lastEvaluated = -1; // Vertex the shortcuts belong to
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  Contractor()
+         * Description  Copy the edges of graph into undirected adjacency
+         *              lists, keeping the lightest edge between two vertices
+         *              and dropping loops.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       graph CSRGraph
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private Contractor(CSRGraph graph)
+        {
+            int n = graph.getSize();
+            adjacent = new int[n][];
+            weight = new double[n][];
+            middle = new int[n][];
+            degree = new int[n];
+            contractedNeighbors = new int[n];
+            level = new int[n];
+            for (int u = 0; u < n; u++)
+            {
+                int capacity = Math.max(4, graph.getDegree(u));
+                adjacent[u] = new int[capacity];
+                weight[u] = new double[capacity];
+                middle[u] = new int[capacity];
+            }
+            for (int u = 0; u < n; u++)
+            {
+                for (int i = graph.getFirstEdge(u); i < graph.getEndEdge(u); i++)
+                {
+                    int v = graph.getTarget(i);
+                    if (v != u)
+                    {
+                        addEdge(u, v, graph.getWeight(i), -1);
+                        addEdge(v, u, graph.getWeight(i), -1);
+                    }
+                }
+            }
+
+            distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            reached = new int[n];
+            queue = new IndexedMinHeap(n);
+            mark = new int[n];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       addEdge()
+         * Description  Add the edge u-v to u's list, or lower its weight if
+         *              u-v is already there and heavier.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       v int
+         * @param       w double
+         * @param       m int, bypassed vertex or -1
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void addEdge(int u, int v, double w, int m)
+        {
+            for (int i = 0; i < degree[u]; i++)
+            {
+                if (adjacent[u][i] == v)
+                {
+                    if (w < weight[u][i])
+                    {
+                        weight[u][i] = w;
+                        middle[u][i] = m;
+                    }
+                    return;
+                }
+            }
+            if (degree[u] == adjacent[u].length)
+            {
+                int capacity = 2 * degree[u];
+                adjacent[u] = Arrays.copyOf(adjacent[u], capacity);
+                weight[u] = Arrays.copyOf(weight[u], capacity);
+                middle[u] = Arrays.copyOf(middle[u], capacity);
+            }
+            adjacent[u][degree[u]] = v;
+            weight[u][degree[u]] = w;
+            middle[u][degree[u]] = m;
+            degree[u]++;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       removeEdge()
+         * Description  Remove v from u's list by moving the last entry into
+         *              its place.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void removeEdge(int u, int v)
+        {
+            for (int i = 0; i < degree[u]; i++)
+            {
+                if (adjacent[u][i] == v)
+                {
+                    int last = --degree[u];
+                    adjacent[u][i] = adjacent[u][last];
+                    weight[u][i] = weight[u][last];
+                    middle[u][i] = middle[u][last];
+                    return;
+                }
+            }
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       priority()
+         * Description  Return the contraction priority of v, lower first:
+         *              the edge difference plus the number of neighbors
+         *              already contracted plus the level of v.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       v int
+         * @return      priority double
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private double priority(int v)
+        {
+            findShortcuts(v);
+            return shortcuts - degree[v] + contractedNeighbors[v] + level[v];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       contract()
+         * Description  Contract v: add the shortcuts it needs and remove it
+         *              from its neighbors' lists.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void contract(int v)
+        {
+            findShortcuts(v);
+            for (int i = 0; i < shortcuts; i++)
+            {
+                addEdge(shortcutFrom[i], shortcutTo[i], shortcutWeight[i], v);
+                addEdge(shortcutTo[i], shortcutFrom[i], shortcutWeight[i], v);
+            }
+            for (int i = 0; i < degree[v]; i++)
+            {
+                int u = adjacent[v][i];
+                removeEdge(u, v);
+                contractedNeighbors[u]++;
+                level[u] = Math.max(level[u], level[v] + 1);
+            }
+            lastEvaluated = -1;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       findShortcuts()
+         * Description  For every pair of neighbors u, w of v, run a witness
+         *              search from u that avoids v. If it cannot find a path
+         *              to w no longer than u-v-w within WITNESS_SETTLE_LIMIT
+         *              settled vertices, the shortcut u-w is needed. A search
+         *              that gives up early only adds a shortcut that was not
+         *              strictly necessary, never loses a path. The result is
+         *              kept until the graph changes, so contracting the
+         *              vertex whose priority was just computed is free.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void findShortcuts(int v)
+        {
+            if (lastEvaluated == v)
+                return;
+            lastEvaluated = v;
+            shortcuts = 0;
+
+            for (int i = 0; i < degree[v] - 1; i++)
+            {
+                int u = adjacent[v][i];
+                double viaU = weight[v][i];
+
+                // The search only has to reach the neighbors after u
+                double maxOut = 0;
+                stamp++;
+                for (int j = i + 1; j < degree[v]; j++)
+                {
+                    maxOut = Math.max(maxOut, weight[v][j]);
+                    mark[adjacent[v][j]] = stamp;
+                }
+                int count = witnessSearch(u, v, viaU + maxOut, degree[v] - 1 - i);
+
+                for (int j = i + 1; j < degree[v]; j++)
+                {
+                    int w = adjacent[v][j];
+                    double via = viaU + weight[v][j];
+                    if (distance[w] > via)
+                    {
+                        if (shortcuts == shortcutFrom.length)
+                        {
+                            shortcutFrom = Arrays.copyOf(shortcutFrom, 2 * shortcuts);
+                            shortcutTo = Arrays.copyOf(shortcutTo, 2 * shortcuts);
+                            shortcutWeight = Arrays.copyOf(shortcutWeight, 2 * shortcuts);
+                        }
+                        shortcutFrom[shortcuts] = u;
+                        shortcutTo[shortcuts] = w;
+                        shortcutWeight[shortcuts] = via;
+                        shortcuts++;
+                    }
+                }
+                for (int k = 0; k < count; k++)
+                    distance[reached[k]] = Double.POSITIVE_INFINITY;
+                queue.clear();
+            }
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       witnessSearch()
+         * Description  Dijkstra from u that skips v and stops at limit cost,
+         *              after WITNESS_SETTLE_LIMIT settled vertices, or once
+         *              every marked target is settled. Distances are left in
+         *              distance and the reached vertices in reached for the
+         *              caller to reset.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       v int
+         * @param       limit double
+         * @param       targets int, number of marked vertices
+         * @return      number of reached vertices int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private int witnessSearch(int u, int v, double limit, int targets)
+        {
+            int count = 0;
+            distance[u] = 0;
+            reached[count++] = u;
+            queue.insertOrDecrease(u, 0);
+            int settled = 0;
+            while (!queue.isEmpty() && queue.peekKey() <= limit
+                && settled < WITNESS_SETTLE_LIMIT)
+            {
+                int x = queue.poll();
+                settled++;
+                if (mark[x] == stamp && --targets == 0)
+                    break;
+                for (int i = 0; i < degree[x]; i++)
+                {
+                    int y = adjacent[x][i];
+                    if (y == v)
+                        continue;
+                    double newDistance = distance[x] + weight[x][i];
+                    if (newDistance < distance[y])
+                    {
+                        if (distance[y] == Double.POSITIVE_INFINITY)
+                            reached[count++] = y;
+                        distance[y] = newDistance;
+                        queue.insertOrDecrease(y, newDistance);
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -3,10 +3,7 @@ package GraphExplorer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
 
 /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
  * Class        DisjointSetClass.java
@@ -19,7 +16,7 @@ import java.util.PriorityQueue;
 public class DisjointSetClass {
     
     private static double totalWeight = 0;
-    private final Map<Integer, Integer> parent = new HashMap();
+    private UnionFind sets = new UnionFind(0);
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Constructor  DisjointSetClass() -default constructor
@@ -47,22 +44,20 @@ public class DisjointSetClass {
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       make_set()
      * Description  Creates numberOfVertices disjoint sets (one for each vertex)
+     *              backed by an array-based UnionFind.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       numberOfVertices int
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
     public void make_set(int numberOfVertices)
     {
-        for(int i = 0; i < numberOfVertices; i++)
-        {
-            parent.put(i, i);
-        }
+        sets = new UnionFind(numberOfVertices);
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       find_set()
-     * Description  Recursive method to find the root of the set
-     *              in private int (find k)
+     * Description  Find the root of the set containing k. Iterative with
+     *              path halving, see UnionFind.find.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       k int
@@ -70,16 +65,12 @@ public class DisjointSetClass {
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
     private int find_set(int k)
     {
-        if(parent.get(k) == k)
-            return k;
-        
-        return find_set(parent.get(k));
-                    
+        return sets.find(k);
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       union_sets()
-     * Description  Performs the union_sets of two subsets
+     * Description  Performs the union_sets of two subsets, linking by rank.
      * Date         11/17/2023 
      * @author      <i>Kirill Grichanichenko</i>
      * @param       a int
@@ -87,9 +78,7 @@ public class DisjointSetClass {
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
     private void union_sets(int a, int b)
     {
-        int u = find_set(a);
-        int v = find_set(b);
-        parent.put(u, v);
+        sets.union(a, b);
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -116,7 +105,8 @@ public class DisjointSetClass {
         Collections.sort(edges, Comparator.comparingDouble(e -> e.weight));
         
         // Iterate until the minimum spanning tree has (numberOfVetices - 1) edges
-        while(minimumSpanningTree.size() != numberOfVertices - 1)
+        // or the edges run out (the graph is not connected)
+        while(minimumSpanningTree.size() < numberOfVertices - 1 && index < edges.size())
         {
             WeightedEdge nextEdge = edges.get(index++);
             int u = disjoint.find_set(nextEdge.u);
@@ -133,9 +123,56 @@ public class DisjointSetClass {
         return minimumSpanningTree;
     }
     
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       kruskalsAlgorithm()
+     * Description  Kruskal's Algorithm over an EdgeStore. The edges are
+     *              visited through a sorted array of edge numbers instead of
+     *              sorting WeightedEdge objects, so the only allocations are
+     *              that array, the disjoint sets and the tree itself. Ties
+     *              are taken in store order, as the stable sort of the List
+     *              version does.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges             EdgeStore
+     * @param       numberOfVertices  int
+     * @return      mst               EdgeStore
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+    public static EdgeStore kruskalsAlgorithm(EdgeStore edges, int numberOfVertices)
+    {
+        totalWeight = 0;
+        EdgeStore minimumSpanningTree = new EdgeStore(Math.max(numberOfVertices - 1, 0));
+        DisjointSetClass disjoint = new DisjointSetClass();
+        disjoint.make_set(numberOfVertices);
+
+        int[] order = edges.sortedByWeight();
+        for (int index = 0; minimumSpanningTree.size() < numberOfVertices - 1
+            && index < order.length; index++)
+        {
+            int edge = order[index];
+            int u = disjoint.find_set(edges.getSource(edge));
+            int v = disjoint.find_set(edges.getTarget(edge));
+
+            // Check if adding this edge would create a cycle
+            if(u != v)
+            {
+                minimumSpanningTree.add(edges.getSource(edge), edges.getTarget(edge),
+                    edges.getWeight(edge));
+                disjoint.union_sets(u, v);
+                totalWeight += edges.getWeight(edge);
+            }
+        }
+        return minimumSpanningTree;
+    }
+    
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       dijkstraAlgorithm()
-     * Description  Method that constructs shortest path using Dijkstra's Algorithm
+     * Description  Method that constructs shortest path using Dijkstra's Algorithm.
+     *              The edge list is turned into adjacency arrays (CSRGraph)
+     *              once, so each polled vertex only looks at its own edges,
+     *              and the search runs on an IndexedMinHeap with double[]
+     *              distances. For every vertex reachable from source other
+     *              than source itself, the result holds the edge
+     *              (predecessor, vertex) weighted by its length on the path.
      * Date         11/17/2023
      * @author      <i>Kirill Grichanichenko</i>
      * @param       edges             List WeightedEdge
@@ -145,58 +182,22 @@ public class DisjointSetClass {
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
     public List<WeightedEdge> dijkstrasAlgorithm(List<WeightedEdge> edges, int numberOfVertices, int source) 
     {
-         // Initialize
+        // Initialize
         List<WeightedEdge> shortestPath = new ArrayList<>();
-        Map<Integer, Double> distance = new HashMap<>();
-        Map<Integer, Integer> previousNode = new HashMap<>();
-        PriorityQueue<Integer> priorityQueue = new PriorityQueue<>(Comparator.comparingDouble(distance::get));
-
-        // Initialize distances to infinity for all vertices except the source
-        for (int i = 0; i < numberOfVertices; i++) 
-        {
-            distance.put(i, Double.POSITIVE_INFINITY);
-        }
-        distance.put(source, 0.0);
+        CSRGraph graph = new CSRGraph(edges, numberOfVertices);
 
-        // Add all vertices to the queue
-        for (int i = 0; i < numberOfVertices; i++) 
-        {
-            priorityQueue.add(i);
-        }
-        
         // Iterate through and get the vertex with the smallest weight
-        while (!priorityQueue.isEmpty()) 
-        {
-            int u = priorityQueue.poll();
-            
-            for (WeightedEdge edge : edges) 
-            {
-                if (edge.u == u) 
-                {
-                    double newDistance = distance.get(u) + edge.weight;
-                    
-                    // Update if a shorter path is found
-                    if (newDistance < distance.get(edge.v)) 
-                    {
-                        distance.put(edge.v, newDistance);
-                        previousNode.put(edge.v, u);
+        CSRGraph.SearchTree tree = graph.getShortestPath(source);
 
-                        priorityQueue.remove(edge.v);
-                        priorityQueue.add(edge.v);
-                    }
-                }
-            }
-        }
         // Rebuild the shortest path
         for (int i = 0; i < numberOfVertices; i++) 
         {  
-            if (i != source) 
+            int pred = tree.getParent(i);
+            if (i != source && pred != -1) 
             {
-                int current = i;
-                int pred = previousNode.get(current);
-                shortestPath.add(new WeightedEdge(pred, current, distance.get(current) - distance.get(pred)));
+                shortestPath.add(new WeightedEdge(pred, i, tree.getCost(i) - tree.getCost(pred)));
             }
         }
-    return shortestPath;
+        return shortestPath;
     }
 }
@@ -0,0 +1,302 @@
+package GraphExplorer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        EdgeStore.java
+ * Description  Growable list of weighted edges kept as three primitive
+ *              columns, sources, targets and weights, instead of one
+ *              WeightedEdge object per edge. An edge takes 16 bytes
+ *              against about 36 for an object and its reference. The
+ *              columns are split into chunks of CHUNK_SIZE edges, so
+ *              growing never copies the edges already stored and no single
+ *              array has to hold hundreds of millions of them. Where an
+ *              API needs objects, getEdge fills a caller's WeightedEdge or
+ *              asList creates them one at a time as they are read.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class EdgeStore
+{
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int[][] sources;        // sources[i >> CHUNK_BITS][i & CHUNK_MASK]
+    private int[][] targets;
+    private double[][] weights;
+    private int size;               // Number of edges
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  EdgeStore()
+     * Description  Construct an empty store.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public EdgeStore()
+    {
+        this(CHUNK_SIZE);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  EdgeStore()-overloaded constructor
+     * Description  Construct an empty store with room in its chunk table
+     *              for expected edges. Chunks are still allocated only as
+     *              edges arrive.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       expected int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public EdgeStore(int expected)
+    {
+        int chunks = Math.max((int)(((long)expected + CHUNK_MASK) >> CHUNK_BITS), 1);
+        sources = new int[chunks][];
+        targets = new int[chunks][];
+        weights = new double[chunks][];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       add()
+     * Description  Append the edge (u, v) with the given weight.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @param       weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void add(int u, int v, double weight)
+    {
+        if (size == Integer.MAX_VALUE)
+            throw new IllegalStateException("Edge store is full");
+
+        int chunk = size >>> CHUNK_BITS;
+        int slot = size & CHUNK_MASK;
+        if (slot == 0)
+        {
+            if (chunk == sources.length)
+            {
+                int chunks = 2 * sources.length;
+                sources = Arrays.copyOf(sources, chunks);
+                targets = Arrays.copyOf(targets, chunks);
+                weights = Arrays.copyOf(weights, chunks);
+            }
+            sources[chunk] = new int[CHUNK_SIZE];
+            targets[chunk] = new int[CHUNK_SIZE];
+            weights[chunk] = new double[CHUNK_SIZE];
+        }
+        sources[chunk][slot] = u;
+        targets[chunk][slot] = v;
+        weights[chunk][slot] = weight;
+        size++;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSource()
+     * Description  Return the start vertex u of edge i. Like the other
+     *              getters it does not check i against size.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSource(int i)
+    {
+        return sources[i >>> CHUNK_BITS][i & CHUNK_MASK];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getTarget()
+     * Description  Return the end vertex v of edge i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getTarget(int i)
+    {
+        return targets[i >>> CHUNK_BITS][i & CHUNK_MASK];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeight()
+     * Description  Return the weight of edge i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getWeight(int i)
+    {
+        return weights[i >>> CHUNK_BITS][i & CHUNK_MASK];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       size()
+     * Description  Return the number of edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int size()
+    {
+        return size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdge()
+     * Description  Return edge i as a new WeightedEdge.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      edge WeightedEdge
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public WeightedEdge getEdge(int i)
+    {
+        return new WeightedEdge(getSource(i), getTarget(i), getWeight(i));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdge()
+     * Description  Copy edge i into a reusable flyweight edge and return it.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @param       edge WeightedEdge
+     * @return      edge WeightedEdge
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public WeightedEdge getEdge(int i, WeightedEdge edge)
+    {
+        edge.u = getSource(i);
+        edge.v = getTarget(i);
+        edge.weight = getWeight(i);
+        return edge;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       asList()
+     * Description  Return a read-only List view of the store. Every get
+     *              creates a new WeightedEdge; nothing is kept.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges List WeightedEdge
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public List<WeightedEdge> asList()
+    {
+        return new EdgeListView();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       sortedByWeight()
+     * Description  Return the edge numbers ordered by weight as
+     *              Double.compare orders them, ties in the order the edges
+     *              were added, the order a stable sort of WeightedEdge
+     *              objects gives. The weights are turned into longs that
+     *              compare the same way unsigned and radix sorted a byte at
+     *              a time, least significant first, skipping bytes that are
+     *              the same in every key. The edges themselves do not move.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      order int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int[] sortedByWeight()
+    {
+        int[] order = new int[size];
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            order[i] = i;
+            long bits = Double.doubleToLongBits(getWeight(i));
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        int[] nextOrder = new int[size];
+        long[] nextKeys = new long[size];
+        int[] count = new int[256];
+        for (int shift = 0; shift < 64; shift += 8)
+        {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < size; i++)
+                count[(int)(keys[i] >>> shift) & 0xFF]++;
+            if (size == 0 || count[(int)(keys[0] >>> shift) & 0xFF] == size)
+                continue;       // Every key has this byte, nothing moves
+
+            // Turn the counts into the first position of each byte value
+            for (int b = 0, position = 0; b < 256; b++)
+            {
+                int c = count[b];
+                count[b] = position;
+                position += c;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                int to = count[(int)(keys[i] >>> shift) & 0xFF]++;
+                nextKeys[to] = keys[i];
+                nextOrder[to] = order[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = nextKeys;
+            nextKeys = swapKeys;
+            int[] swapOrder = order;
+            order = nextOrder;
+            nextOrder = swapOrder;
+        }
+        return order;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the number of bytes held by the allocated chunks.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        long chunks = ((long)size + CHUNK_MASK) >> CHUNK_BITS;
+        return chunks * CHUNK_SIZE * 16;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        EdgeListView
+     * Description  Read-only List over the store that creates each
+     *              WeightedEdge when it is read.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class EdgeListView extends AbstractList<WeightedEdge>
+        implements RandomAccess
+    {
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       get()
+         * Description  Return edge i as a new WeightedEdge.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @return      edge WeightedEdge
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public WeightedEdge get(int i)
+        {
+            if (i < 0 || i >= size)
+                throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+            return getEdge(i);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       size()
+         * Description  Return the number of edges in the store.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package GraphExplorer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        FloydWarshall.java
+ * Description  All-pairs shortest paths of an AdjacencyMatrix by the
+ *              Floyd-Warshall algorithm, producing a distance matrix and a
+ *              next-hop matrix to rebuild any path. Time is n^3 whatever
+ *              the number of edges, which beats a Dijkstra per source only
+ *              on dense graphs.
+ *
+ *              The matrices are cut into BLOCK_SIZE square tiles and
+ *              processed one block of intermediate vertices k at a time:
+ *              first the diagonal tile of k, then the tiles in its row and
+ *              column, which only need that tile, then every other tile,
+ *              which only needs the row and column. Each step updates a
+ *              tile from tiles that fit in cache together, and the tiles
+ *              of the last two steps are independent, so they are run in
+ *              parallel on a ForkJoinPool. Weights must not be negative.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class FloydWarshall
+{
+    // Side of a tile; three tiles of doubles fit in a 256 KB cache
+    private static final int BLOCK_SIZE = 64;
+
+    private final double[][] distance;  // distance[u][v] from u to v
+    private final int[][] next;         // First vertex after u on the path, -1 if none
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  FloydWarshall()
+     * Description  Compute all shortest paths of matrix on the common pool.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       matrix AdjacencyMatrix
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public FloydWarshall(AdjacencyMatrix matrix)
+    {
+        this(matrix, ForkJoinPool.commonPool());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  FloydWarshall()-overloaded constructor
+     * Description  Compute all shortest paths of matrix on the given pool.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       matrix AdjacencyMatrix
+     * @param       pool ForkJoinPool
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public FloydWarshall(AdjacencyMatrix matrix, ForkJoinPool pool)
+    {
+        int n = matrix.getSize();
+        distance = new double[n][];
+        next = new int[n][n];
+        for (int u = 0; u < n; u++)
+        {
+            distance[u] = matrix.getRow(u).clone();
+            for (int v = 0; v < n; v++)
+            {
+                if (matrix.hasEdge(u, v))
+                    next[u][v] = v;
+                else
+                    next[u][v] = -1;
+            }
+            distance[u][u] = 0;
+            next[u][u] = u;
+        }
+
+        int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int others = Math.max(blocks - 1, 0);
+        int[] rowTiles = new int[2 * others];
+        int[] columnTiles = new int[rowTiles.length];
+        int[] innerRows = new int[others * others];
+        int[] innerColumns = new int[innerRows.length];
+        for (int kb = 0; kb < blocks; kb++)
+        {
+            // The row and column of tiles through the diagonal tile of kb
+            int count = 0;
+            for (int b = 0; b < blocks; b++)
+            {
+                if (b != kb)
+                {
+                    rowTiles[count] = kb;
+                    columnTiles[count++] = b;
+                    rowTiles[count] = b;
+                    columnTiles[count++] = kb;
+                }
+            }
+            // Every tile off that row and column
+            int inner = 0;
+            for (int ib = 0; ib < blocks; ib++)
+            {
+                for (int jb = 0; jb < blocks; jb++)
+                {
+                    if (ib != kb && jb != kb)
+                    {
+                        innerRows[inner] = ib;
+                        innerColumns[inner++] = jb;
+                    }
+                }
+            }
+
+            updateTile(kb, kb, kb);
+            pool.invoke(new TileTask(kb, rowTiles, columnTiles, 0, count));
+            pool.invoke(new TileTask(kb, innerRows, innerColumns, 0, inner));
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       updateTile()
+     * Description  Relax the tile at block row ib and block column jb
+     *              through every intermediate vertex of block kb. The
+     *              intermediate vertex is the outer loop so that a tile may
+     *              be updated from itself, as the diagonal, row and column
+     *              tiles are. When a path through k is shorter, the path
+     *              from u starts the way the path from u to k does.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       ib int
+     * @param       jb int
+     * @param       kb int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void updateTile(int ib, int jb, int kb)
+    {
+        int n = distance.length;
+        int iEnd = Math.min(n, (ib + 1) * BLOCK_SIZE);
+        int jStart = jb * BLOCK_SIZE;
+        int jEnd = Math.min(n, jStart + BLOCK_SIZE);
+        int kEnd = Math.min(n, (kb + 1) * BLOCK_SIZE);
+
+        for (int k = kb * BLOCK_SIZE; k < kEnd; k++)
+        {
+            double[] fromK = distance[k];
+            for (int u = ib * BLOCK_SIZE; u < iEnd; u++)
+            {
+                double[] fromU = distance[u];
+                double toK = fromU[k];
+                if (toK == Double.POSITIVE_INFINITY)
+                    continue;
+
+                int[] nextU = next[u];
+                int hop = nextU[k];
+                for (int v = jStart; v < jEnd; v++)
+                {
+                    double through = toK + fromK[v];
+                    if (through < fromU[v])
+                    {
+                        fromU[v] = through;
+                        nextU[v] = hop;
+                    }
+                }
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSize()
+     * Description  Return the number of vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSize()
+    {
+        return distance.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDistance()
+     * Description  Return the shortest distance from u to v, infinite if v
+     *              cannot be reached.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      distance double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getDistance(int u, int v)
+    {
+        return distance[u][v];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNextHop()
+     * Description  Return the vertex after u on a shortest path from u to
+     *              v, u itself if u is v, or -1 if v cannot be reached.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNextHop(int u, int v)
+    {
+        return next[u][v];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDistanceMatrix()
+     * Description  Return the distance matrix. The rows are shared, not
+     *              copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      matrix double[][]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double[][] getDistanceMatrix()
+    {
+        return distance;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNextHopMatrix()
+     * Description  Return the next-hop matrix. The rows are shared, not
+     *              copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      matrix int[][]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int[][] getNextHopMatrix()
+    {
+        return next;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Return the shortest path from source to target by
+     *              following next hops. Nothing is searched, so the settled
+     *              count of the path is zero.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath shortestPath(int source, int target)
+    {
+        if (next[source][target] == -1)
+            return new GraphPath(source, target, new int[0], Double.POSITIVE_INFINITY, 0);
+
+        int length = 1;
+        for (int v = source; v != target; v = next[v][target])
+            length++;
+
+        int[] vertices = new int[length];
+        int v = source;
+        for (int i = 0; i < length; i++)
+        {
+            vertices[i] = v;
+            v = next[v][target];
+        }
+        return new GraphPath(source, target, vertices, distance[source][target], 0);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the number of bytes held by the two matrices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 12L * distance.length * distance.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        TileTask
+     * Description  Fork-join task relaxing the tiles low..high-1 of a list
+     *              through block kb.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class TileTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int kb;
+        private final int[] tileRows;
+        private final int[] tileColumns;
+        private final int low;
+        private final int high;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  TileTask()
+         * Description  Construct a task over the tiles low..high-1, tile i
+         *              being at block row tileRows[i] and block column
+         *              tileColumns[i].
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       kb int
+         * @param       tileRows int[]
+         * @param       tileColumns int[]
+         * @param       low int
+         * @param       high int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private TileTask(int kb, int[] tileRows, int[] tileColumns, int low, int high)
+        {
+            this.kb = kb;
+            this.tileRows = tileRows;
+            this.tileColumns = tileColumns;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       compute()
+         * Description  Relax a single tile directly, otherwise split the
+         *              range in two and run both halves.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        protected void compute()
+        {
+            if (high - low == 1)
+                updateTile(tileRows[low], tileColumns[low], kb);
+            else if (high - low > 1)
+            {
+                int middle = (low + high) >>> 1;
+                invokeAll(new TileTask(kb, tileRows, tileColumns, low, middle),
+                    new TileTask(kb, tileRows, tileColumns, middle, high));
+            }
+        }
+    }
+}
@@ -0,0 +1,1679 @@
+package GraphExplorer;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GraphBenchmark.java
+ * Description  Command line driver that times the graph algorithms on
+ *              synthetic graphs far larger than the data files shipped with
+ *              the application. Run with the name of a benchmark as the first
+ *              argument, for example:
+ *                  java GraphExplorer.GraphBenchmark dijkstra
+ *              Results are printed as a plain text table on standard output.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class GraphBenchmark
+{
+    private static final long SEED = 20231117L;
+    // Largest graph the old linear-scan algorithms are still timed on
+    private static final int LINEAR_SCAN_LIMIT = 2500;
+    // Largest vertex list still loaded with linear contains and indexOf
+    private static final int LINEAR_VERTEX_LIMIT = 100000;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       main()
+     * Description  Run the benchmark named by the first argument.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       args String[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static void main(String[] args)
+    {
+        run(args.length > 0 ? args[0] : "dijkstra");
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       run()
+     * Description  Dispatch to the benchmark with the given name.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       name String
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void run(String name)
+    {
+        switch (name)
+        {
+            case "dijkstra":
+                benchmarkDijkstra();
+                break;
+            case "prim":
+                benchmarkPrim();
+                break;
+            case "unionfind":
+                benchmarkUnionFind();
+                break;
+            case "csr":
+                benchmarkCSR();
+                break;
+            case "loader":
+                benchmarkLoader();
+                break;
+            case "query":
+                benchmarkQuery();
+                break;
+            case "astar":
+                benchmarkAStar();
+                break;
+            case "ch":
+                benchmarkContractionHierarchy();
+                break;
+            case "alt":
+                benchmarkLandmarks();
+                break;
+            case "apsp":
+                benchmarkAllPairs();
+                break;
+            case "floyd":
+                benchmarkFloydWarshall();
+                break;
+            case "bfs":
+                benchmarkBfs();
+                break;
+            case "pbfs":
+                benchmarkParallelBfs();
+                break;
+            case "connectivity":
+                benchmarkConnectivity();
+                break;
+            case "vertices":
+                benchmarkVertices();
+                break;
+            case "hubs":
+                benchmarkHubs();
+                break;
+            case "neighbors":
+                benchmarkNeighbors();
+                break;
+            case "weights":
+                benchmarkWeights();
+                break;
+            case "edgestore":
+                benchmarkEdgeStore();
+                break;
+            case "offheap":
+                benchmarkOffHeap();
+                break;
+            case "graphfile":
+                benchmarkGraphFile();
+                break;
+            default:
+                System.out.println("Unknown benchmark: " + name);
+                System.out.println("Available: dijkstra, prim, unionfind, csr, loader, query, astar, ch, alt, apsp, floyd, bfs, pbfs, connectivity, vertices, hubs, neighbors, weights, edgestore, offheap, graphfile");
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkDijkstra()
+     * Description  Compare WeightedGraph.getShortestPath against the original
+     *              linear-scan implementation on road-like grid graphs from
+     *              1k to 1M vertices. The linear scan is only timed up to
+     *              LINEAR_SCAN_LIMIT vertices since it is cubic in practice.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkDijkstra()
+    {
+        int[] sizes = {1000, 2500, 10000, 100000, 1000000};
+        System.out.printf("%10s %14s %14s%n", "vertices", "heap (ms)", "scan (ms)");
+        for (int n : sizes)
+        {
+            WeightedGraph<Integer> graph = roadGraph(n, SEED);
+            int source = 0;
+
+            graph.getShortestPath(source); // Warm up
+            long start = System.nanoTime();
+            graph.getShortestPath(source);
+            double heapMillis = (System.nanoTime() - start) / 1e6;
+
+            String scan = "skipped";
+            if (graph.getSize() <= LINEAR_SCAN_LIMIT)
+            {
+                start = System.nanoTime();
+                linearScanShortestPath(graph, source);
+                scan = String.format("%.1f", (System.nanoTime() - start) / 1e6);
+            }
+            System.out.printf("%10d %14.1f %14s%n", graph.getSize(), heapMillis, scan);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkPrim()
+     * Description  Time WeightedGraph.getMinimumSpanningTree on road graphs
+     *              up to 1M vertices and check its total weight against
+     *              DisjointSetClass.kruskalsAlgorithm on the same edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkPrim()
+    {
+        int[] sizes = {10000, 100000, 1000000};
+        System.out.printf("%10s %10s %12s %12s %16s %16s%n", "vertices", "edges",
+            "prim (ms)", "kruskal (ms)", "prim weight", "kruskal weight");
+        for (int n : sizes)
+        {
+            List<WeightedEdge> edges = roadEdges(n, SEED);
+            WeightedGraph<Integer> graph = new WeightedGraph<>(edges,
+                gridSide(n) * gridSide(n));
+
+            graph.getMinimumSpanningTree(); // Warm up
+            long start = System.nanoTime();
+            double primWeight = graph.getMinimumSpanningTree().getTotalWeight();
+            double primMillis = (System.nanoTime() - start) / 1e6;
+
+            start = System.nanoTime();
+            DisjointSetClass.kruskalsAlgorithm(edges, graph.getSize());
+            double kruskalMillis = (System.nanoTime() - start) / 1e6;
+
+            System.out.printf("%10d %10d %12.1f %12.1f %16.1f %16.1f%n", graph.getSize(),
+                edges.size(), primMillis, kruskalMillis, primWeight,
+                DisjointSetClass.getTotalWeight());
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkUnionFind()
+     * Description  Measure UnionFind throughput on 10M elements: random
+     *              unions until a single set remains, then random finds.
+     *              Reports operations per second for each phase.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkUnionFind()
+    {
+        final int n = 10000000;
+        Random random = new Random(SEED);
+        UnionFind sets = new UnionFind(n);
+
+        long unions = 0;
+        long start = System.nanoTime();
+        while (sets.getCount() > 1)
+        {
+            sets.union(random.nextInt(n), random.nextInt(n));
+            unions++;
+        }
+        double unionSeconds = (System.nanoTime() - start) / 1e9;
+
+        final int finds = 50000000;
+        long checksum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < finds; i++)
+            checksum += sets.find(random.nextInt(n));
+        double findSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("elements: %d%n", n);
+        System.out.printf("unions:   %d in %.2f s (%.1f M/s)%n", unions, unionSeconds,
+            unions / unionSeconds / 1e6);
+        System.out.printf("finds:    %d in %.2f s (%.1f M/s, checksum %d)%n", finds,
+            findSeconds, finds / findSeconds / 1e6, checksum);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkCSR()
+     * Description  Compare heap usage and traversal times of a 1M vertex
+     *              WeightedGraph against its CSRGraph snapshot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkCSR()
+    {
+        long before = usedMemory();
+        WeightedGraph<Integer> graph = roadGraph(1000000, SEED);
+        long graphBytes = usedMemory() - before;
+        CSRGraph csr = new CSRGraph(graph);
+
+        System.out.printf("vertices %d, edges %d%n", csr.getSize(), csr.getNumberOfEdges());
+        System.out.printf("WeightedGraph heap: %.1f MB, CSRGraph arrays: %.1f MB%n",
+            graphBytes / 1e6, csr.getMemoryBytes() / 1e6);
+        System.out.printf("%10s %14s %14s%n", "search", "graph (ms)", "csr (ms)");
+
+        String[] searches = {"dfs", "bfs", "dijkstra", "prim"};
+        for (String search : searches)
+        {
+            double graphMillis = 0;
+            double csrMillis = 0;
+            for (int round = 0; round < 2; round++) // First round warms up
+            {
+                long start = System.nanoTime();
+                switch (search)
+                {
+                    case "dfs": graph.dfs(0); break;
+                    case "bfs": graph.bfs(0); break;
+                    case "dijkstra": graph.getShortestPath(0); break;
+                    default: graph.getMinimumSpanningTree(0);
+                }
+                graphMillis = (System.nanoTime() - start) / 1e6;
+
+                start = System.nanoTime();
+                switch (search)
+                {
+                    case "dfs": csr.dfs(0); break;
+                    case "bfs": csr.bfs(0); break;
+                    case "dijkstra": csr.getShortestPath(0); break;
+                    default: csr.getMinimumSpanningTree(0);
+                }
+                csrMillis = (System.nanoTime() - start) / 1e6;
+            }
+            System.out.printf("%10s %14.1f %14.1f%n", search, graphMillis, csrMillis);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkLoader()
+     * Description  Write a 1M vertex road graph in the src/Data edge format
+     *              to a temporary file and time GraphLoader against the
+     *              original Scanner and String.split parser.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkLoader()
+    {
+        try
+        {
+            File file = File.createTempFile("edges", ".txt");
+            file.deleteOnExit();
+            int n = writeEdgeFile(file, 1000000);
+
+            GraphLoader loader = null;
+            for (int round = 0; round < 3; round++)
+                loader = GraphLoader.load(file.getPath());
+            System.out.println("GraphLoader: " + loader);
+
+            long start = System.nanoTime();
+            int scanned = scannerLoad(file);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Scanner:     %d vertices, %d edges, %d bytes in %.1f ms "
+                + "(%.1f MB/s, %.0f edges/s)%n", n, scanned, file.length(),
+                seconds * 1e3, file.length() / 1e6 / seconds, scanned / seconds);
+        }
+        catch (IOException exp)
+        {
+            System.out.println("Cannot write benchmark file: " + exp.getMessage());
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkQuery()
+     * Description  Time point-to-point WeightedGraph.shortestPath queries
+     *              with each PathAlgorithm on the same random pairs of a 1M
+     *              vertex road graph, against building the full tree with
+     *              getShortestPath as the GUI used to. Local pairs are at
+     *              most 50 grid steps apart.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkQuery()
+    {
+        WeightedGraph<Integer> graph = roadGraph(1000000, SEED);
+        int n = graph.getSize();
+        int side = gridSide(n);
+        Random random = new Random(SEED);
+        int queries = 50;
+
+        graph.getShortestPath(0); // Warm up
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++)
+            graph.getShortestPath(random.nextInt(n));
+        double treeMillis = (System.nanoTime() - start) / 1e6 / 5;
+        System.out.printf("full tree: %.1f ms per query%n", treeMillis);
+
+        System.out.printf("%10s %14s %14s %14s%n", "pairs", "algorithm", "point (ms)", "settled");
+        for (String kind : new String[] {"random", "local"})
+        {
+            int[] sources = new int[queries];
+            int[] targets = new int[queries];
+            for (int i = 0; i < queries; i++)
+            {
+                sources[i] = random.nextInt(n);
+                targets[i] = random.nextInt(n);
+                if (kind.equals("local"))
+                {
+                    int row = Math.min(side - 1, sources[i] / side + random.nextInt(50));
+                    int column = Math.min(side - 1, sources[i] % side + random.nextInt(50));
+                    targets[i] = row * side + column;
+                }
+            }
+
+            for (PathAlgorithm algorithm : PathAlgorithm.values())
+            {
+                long settled = 0;
+                start = System.nanoTime();
+                for (int i = 0; i < queries; i++)
+                    settled += graph.shortestPath(sources[i], targets[i], algorithm)
+                        .getSettledCount();
+                double pointMillis = (System.nanoTime() - start) / 1e6 / queries;
+                System.out.printf("%10s %14s %14.2f %14d%n", kind, algorithm,
+                    pointMillis, settled / queries);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkAStar()
+     * Description  Compare vertices expanded and query time of A* with the
+     *              GreatCircleHeuristic against Dijkstra's algorithm on the
+     *              same random pairs. The graph is a 1M vertex grid of
+     *              jittered points spread over the continental US, each edge
+     *              weighing its great-circle length times a random detour
+     *              factor between 1 and 1.3, like road miles between cities.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkAStar()
+    {
+        Random random = new Random(SEED);
+        int side = gridSide(1000000);
+        int n = side * side;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int v = 0; v < n; v++)
+        {
+            latitudes[v] = 25 + 24 * (v / side + random.nextDouble()) / side;
+            longitudes[v] = -124 + 57 * (v % side + random.nextDouble()) / side;
+        }
+        GreatCircleHeuristic heuristic = new GreatCircleHeuristic(latitudes, longitudes);
+
+        List<WeightedEdge> edges = new ArrayList<>();
+        for (int u = 0; u < n; u++)
+        {
+            if (u % side + 1 < side)
+                addBothWays(edges, u, u + 1,
+                    heuristic.estimate(u, u + 1) * (1 + 0.3 * random.nextDouble()));
+            if (u + side < n)
+                addBothWays(edges, u, u + side,
+                    heuristic.estimate(u, u + side) * (1 + 0.3 * random.nextDouble()));
+        }
+        WeightedGraph<Integer> graph = new WeightedGraph<>(edges, n);
+        edges = null;
+
+        int queries = 20;
+        System.out.printf("%10s %14s %14s%n", "search", "query (ms)", "expanded");
+        for (int round = 0; round < 2; round++) // First round warms up
+        {
+            Random pairs = new Random(SEED);
+            long[] expanded = new long[2];
+            double[] millis = new double[2];
+            for (int i = 0; i < queries; i++)
+            {
+                int source = pairs.nextInt(n);
+                int target = pairs.nextInt(n);
+
+                long start = System.nanoTime();
+                GraphPath dijkstra = graph.shortestPath(source, target);
+                millis[0] += (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                GraphPath aStar = graph.shortestPath(source, target, heuristic);
+                millis[1] += (System.nanoTime() - start) / 1e6;
+
+                if (Math.abs(dijkstra.getCost() - aStar.getCost()) > 1e-6 * dijkstra.getCost())
+                    System.out.println("Cost mismatch " + source + " -> " + target);
+                expanded[0] += dijkstra.getSettledCount();
+                expanded[1] += aStar.getSettledCount();
+            }
+            if (round == 1)
+            {
+                System.out.printf("%10s %14.1f %14d%n", "dijkstra",
+                    millis[0] / queries, expanded[0] / queries);
+                System.out.printf("%10s %14.1f %14d%n", "a*",
+                    millis[1] / queries, expanded[1] / queries);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkContractionHierarchy()
+     * Description  Preprocess road graphs of 100k and 1M vertices into a
+     *              ContractionHierarchy, save and reload it, and compare the
+     *              query latency over random pairs with the point-to-point
+     *              WeightedGraph.shortestPath. Distances are checked against
+     *              each other.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkContractionHierarchy()
+    {
+        int[] sizes = {100000, 1000000};
+        for (int size : sizes)
+        {
+            WeightedGraph<Integer> graph = roadGraph(size, SEED);
+            int n = graph.getSize();
+
+            long start = System.nanoTime();
+            ContractionHierarchy hierarchy = new ContractionHierarchy(graph);
+            double buildSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d vertices: preprocessing %.1f s, %d upward edges, "
+                + "%d shortcuts, %.1f MB%n", n, buildSeconds, hierarchy.getNumberOfEdges(),
+                hierarchy.getNumberOfShortcuts(), hierarchy.getMemoryBytes() / 1e6);
+
+            try
+            {
+                File file = File.createTempFile("hierarchy", ".ch");
+                file.deleteOnExit();
+                start = System.nanoTime();
+                hierarchy.save(file.getPath());
+                double saveMillis = (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                hierarchy = ContractionHierarchy.load(file.getPath());
+                double loadMillis = (System.nanoTime() - start) / 1e6;
+                System.out.printf("  file %.1f MB, save %.0f ms, load %.0f ms%n",
+                    file.length() / 1e6, saveMillis, loadMillis);
+                file.delete();
+            }
+            catch (IOException exp)
+            {
+                System.out.println("Cannot write hierarchy file: " + exp.getMessage());
+            }
+
+            int queries = 1000;
+            Random random = new Random(SEED);
+            int[] sources = new int[queries];
+            int[] targets = new int[queries];
+            for (int i = 0; i < queries; i++)
+            {
+                sources[i] = random.nextInt(n);
+                targets[i] = random.nextInt(n);
+            }
+
+            for (int round = 0; round < 2; round++) // First round warms up
+            {
+                long settled = 0;
+                start = System.nanoTime();
+                for (int i = 0; i < queries; i++)
+                    settled += hierarchy.shortestPath(sources[i], targets[i]).getSettledCount();
+                double pathMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+                start = System.nanoTime();
+                for (int i = 0; i < queries; i++)
+                    hierarchy.distance(sources[i], targets[i]);
+                double distanceMicros = (System.nanoTime() - start) / 1e3 / queries;
+                if (round == 1)
+                    System.out.printf("  query: distance %.1f us, path %.1f us, %d settled%n",
+                        distanceMicros, pathMicros, settled / queries);
+            }
+
+            int checked = 20;
+            start = System.nanoTime();
+            for (int i = 0; i < checked; i++)
+            {
+                double expected = graph.shortestPath(sources[i], targets[i]).getCost();
+                if (Math.abs(expected - hierarchy.distance(sources[i], targets[i])) > 1e-6)
+                    System.out.println("  Distance mismatch " + sources[i] + " -> " + targets[i]);
+            }
+            System.out.printf("  WeightedGraph.shortestPath: %.1f ms per query%n",
+                (System.nanoTime() - start) / 1e6 / checked);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkLandmarks()
+     * Description  Build a 16 landmark LandmarkIndex with every selection
+     *              strategy on a 1M vertex road graph and time A* with it on
+     *              the same random pairs, against getShortestPath and the
+     *              point-to-point Dijkstra query.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkLandmarks()
+    {
+        WeightedGraph<Integer> graph = roadGraph(1000000, SEED);
+        int n = graph.getSize();
+        int queries = 50;
+        Random random = new Random(SEED);
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++)
+        {
+            sources[i] = random.nextInt(n);
+            targets[i] = random.nextInt(n);
+        }
+
+        graph.getShortestPath(0); // Warm up
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++)
+            graph.getShortestPath(sources[i]);
+        double treeMillis = (System.nanoTime() - start) / 1e6 / 5;
+
+        long settled = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++)
+            settled += graph.shortestPath(sources[i], targets[i]).getSettledCount();
+        double dijkstraMillis = (System.nanoTime() - start) / 1e6 / queries;
+        System.out.printf("getShortestPath %.1f ms, shortestPath %.1f ms with %d settled%n",
+            treeMillis, dijkstraMillis, settled / queries);
+
+        System.out.printf("%10s %10s %10s %12s %10s %10s %10s%n", "selection", "build (s)",
+            "MB", "query (ms)", "settled", "vs tree", "vs point");
+        for (LandmarkIndex.Selection selection : LandmarkIndex.Selection.values())
+        {
+            start = System.nanoTime();
+            LandmarkIndex index = new LandmarkIndex(graph, 16, selection, SEED);
+            double buildSeconds = (System.nanoTime() - start) / 1e9;
+
+            settled = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++)
+                settled += graph.shortestPath(sources[i], targets[i], index).getSettledCount();
+            double altMillis = (System.nanoTime() - start) / 1e6 / queries;
+            System.out.printf("%10s %10.1f %10.1f %12.2f %10d %9.1fx %9.1fx%n", selection,
+                buildSeconds, index.getMemoryBytes() / 1e6, altMillis, settled / queries,
+                treeMillis / altMillis, dijkstraMillis / altMillis);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkAllPairs()
+     * Description  Time the distance matrix of a 5k vertex road graph from
+     *              AllPairsShortestPaths on pools of 1, 2, 4, ... threads up
+     *              to the number of processors, against calling
+     *              getShortestPath once per source on one thread.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkAllPairs()
+    {
+        WeightedGraph<Integer> graph = roadGraph(5000, SEED);
+        int n = graph.getSize();
+        AllPairsShortestPaths allPairs = new AllPairsShortestPaths(graph);
+
+        long start = System.nanoTime();
+        double checksum = 0;
+        for (int source = 0; source < n; source++)
+            checksum += graph.getShortestPath(source).getCost(n - 1 - source);
+        double loopSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d vertices, getShortestPath per source: %.2f s%n", n, loopSeconds);
+
+        System.out.printf("%10s %12s %10s%n", "threads", "matrix (s)", "speedup");
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads = threads < processors
+            ? Math.min(2 * threads, processors) : threads + 1)
+        {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            allPairs.getDistanceMatrix(pool); // Warm up
+            start = System.nanoTime();
+            float[][] matrix = allPairs.getDistanceMatrix(pool);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            pool.shutdown();
+
+            double sum = 0;
+            for (int source = 0; source < n; source++)
+                sum += matrix[source][n - 1 - source];
+            if (Math.abs(sum - checksum) > 1e-3 * checksum)
+                System.out.println("Distance mismatch");
+            System.out.printf("%10d %12.2f %9.1fx%n", threads, seconds, loopSeconds / seconds);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkFloydWarshall()
+     * Description  Compare FloydWarshall on an AdjacencyMatrix against
+     *              calling getShortestPath once per source on random graphs
+     *              where a quarter of all ordered pairs are edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkFloydWarshall()
+    {
+        System.out.printf("%10s %10s %14s %12s %10s%n",
+            "vertices", "edges", "dijkstra (s)", "floyd (s)", "speedup");
+        Random random = new Random(SEED);
+        for (int n : new int[] {500, 1000, 2000})
+        {
+            List<WeightedEdge> edges = new ArrayList<>();
+            for (int u = 0; u < n; u++)
+            {
+                for (int v = 0; v < n; v++)
+                {
+                    if (u != v && random.nextInt(4) == 0)
+                        edges.add(new WeightedEdge(u, v, 1 + random.nextInt(100)));
+                }
+            }
+            WeightedGraph<Integer> graph = new WeightedGraph<>(edges, n);
+
+            long start = System.nanoTime();
+            double checksum = 0;
+            for (int source = 0; source < n; source++)
+                checksum += graph.getShortestPath(source).getCost(n - 1 - source);
+            double dijkstraSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            FloydWarshall floyd = new FloydWarshall(new AdjacencyMatrix(graph));
+            double floydSeconds = (System.nanoTime() - start) / 1e9;
+
+            double sum = 0;
+            for (int source = 0; source < n; source++)
+                sum += floyd.getDistance(source, n - 1 - source);
+            if (sum != checksum)
+                System.out.println("Distance mismatch");
+            System.out.printf("%10d %10d %14.2f %12.2f %9.1fx%n", n, edges.size(),
+                dijkstraSeconds, floydSeconds, dijkstraSeconds / floydSeconds);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkBfs()
+     * Description  Time and count the bytes allocated by breadth-first
+     *              search on a 1M vertex road graph: the original LinkedList
+     *              search, bfs returning a Tree, bfs into a reused
+     *              TraversalContext, and isReachable between random pairs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkBfs()
+    {
+        WeightedGraph<Integer> graph = roadGraph(1000000, SEED);
+        int n = graph.getSize();
+        TraversalContext context = new TraversalContext(n);
+        final int runs = 20;
+        String[] searches = {"linked list", "tree", "context", "reachable"};
+
+        System.out.printf("%12s %14s %16s%n", "search", "ms per call", "bytes per call");
+        for (String search : searches)
+        {
+            Random random = new Random(SEED);
+            long checksum = 0;
+            for (int warmUp = 0; warmUp < 2; warmUp++)
+                checksum += bfsRun(graph, search, context, random);
+
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++)
+                checksum += bfsRun(graph, search, context, random);
+            double millis = (System.nanoTime() - start) / 1e6 / runs;
+            bytes = (allocatedBytes() - bytes) / runs;
+            System.out.printf("%12s %14.1f %16d   (checksum %d)%n", search, millis,
+                bytes, checksum);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfsRun()
+     * Description  Run one search of benchmarkBfs from a random vertex and
+     *              return the number of vertices it found.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       search String
+     * @param       context TraversalContext
+     * @param       random Random
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static int bfsRun(WeightedGraph<?> graph, String search,
+        TraversalContext context, Random random)
+    {
+        int v = random.nextInt(graph.getSize());
+        switch (search)
+        {
+            case "linked list":
+                return linkedListBfs(graph, v).size();
+            case "tree":
+                return graph.bfs(v).getNumberOfVerticesFound();
+            case "context":
+                return graph.bfs(v, context);
+            default:
+                int w = random.nextInt(graph.getSize());
+                return graph.isReachable(v, w, context)
+                    ? context.getNumberOfVerticesFound() : 0;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkParallelBfs()
+     * Description  Compare the serial AbstractGraph.bfs against ParallelBfs
+     *              on pools of 1, 2, 4, ... threads up to the number of
+     *              processors, on scale-free Barabasi-Albert graphs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkParallelBfs()
+    {
+        final int runs = 10;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int n : new int[] {100000, 1000000})
+        {
+            WeightedGraph<Integer> graph = scaleFreeGraph(n, 8, SEED);
+            ParallelBfs<Integer> parallel = new ParallelBfs<>(graph);
+            System.out.printf("%d vertices, %d edges%n", n, graph.getEdgesFromGraph().size());
+
+            Random random = new Random(SEED);
+            long found = 0;
+            graph.bfs(0); // Warm up
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++)
+                found += graph.bfs(random.nextInt(n)).getNumberOfVerticesFound();
+            double serialMillis = (System.nanoTime() - start) / 1e6 / runs;
+            System.out.printf("%10s %10.1f ms   (found %d)%n", "serial", serialMillis, found);
+
+            for (int threads = 1; threads <= processors; threads = threads < processors
+                ? Math.min(2 * threads, processors) : threads + 1)
+            {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                random = new Random(SEED);
+                found = 0;
+                parallel.bfs(0, pool); // Warm up
+                start = System.nanoTime();
+                for (int i = 0; i < runs; i++)
+                    found += parallel.bfs(random.nextInt(n), pool).getNumberOfVerticesFound();
+                double millis = (System.nanoTime() - start) / 1e6 / runs;
+                pool.shutdown();
+                System.out.printf("%7d th %10.1f ms   (found %d, %.1fx)%n", threads, millis,
+                    found, serialMillis / millis);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkConnectivity()
+     * Description  Insert 3M random undirected edges, both directions, into a
+     *              1M vertex graph, asking sameComponent after every
+     *              insertion and isConnected after every thousand, all
+     *              answered by the components that addEdge keeps up to
+     *              date. For comparison, a few of the same questions are
+     *              answered with isReachable, a search per question.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkConnectivity()
+    {
+        final int n = 1000000;
+        final int insertions = 3000000;
+        final int searches = 20;
+        Random random = new Random(SEED);
+        WeightedGraph<Integer> graph = new WeightedGraph<>(new ArrayList<>(), n);
+
+        long same = 0;
+        int connectedChecks = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < insertions; i++)
+        {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            graph.addEdge(u, v, 1);
+            graph.addEdge(v, u, 1);
+            if (graph.sameComponent(random.nextInt(n), random.nextInt(n)))
+                same++;
+            if (i % 1000 == 0 && !graph.isConnected())
+                connectedChecks++;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d insertions with queries: %.2f s (%.2f M/s)%n", insertions,
+            seconds, insertions / seconds / 1e6);
+        System.out.printf("  %d of %d pairs in the same component, %d components left"
+            + " (%d isConnected checks false)%n", same, insertions,
+            graph.getNumberOfComponents(), connectedChecks);
+
+        TraversalContext context = new TraversalContext(n);
+        start = System.nanoTime();
+        for (int i = 0; i < searches; i++)
+        {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (graph.isReachable(u, v, context) != graph.sameComponent(u, v))
+                System.out.println("Connectivity mismatch");
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / searches;
+        System.out.printf("  isReachable instead: %.1f ms per query%n", millis);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkVertices()
+     * Description  Bulk load 1M named vertices and 1M Integer vertices with
+     *              addVertex and look every one up again with getIndex,
+     *              both answered by the vertex index, which is enabled
+     *              before the first vertex. The linear scans they
+     *              replaced, contains and indexOf on the list, are timed up
+     *              to LINEAR_VERTEX_LIMIT vertices since loading is
+     *              quadratic with them.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkVertices()
+    {
+        final int n = 1000000;
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++)
+            names[i] = "City " + i;
+
+        System.out.printf("%10s %10s %14s %14s%n", "vertices", "type", "load (ms)",
+            "lookup (ms)");
+        for (int size = 1000; size <= n; size *= 10)
+        {
+            WeightedGraph<String> named = new WeightedGraph<>();
+            named.enableVertexIndex();
+            long start = System.nanoTime();
+            for (int i = 0; i < size; i++)
+                named.addVertex(names[i]);
+            double load = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            for (int i = 0; i < size; i++)
+            {
+                if (named.getIndex(names[i]) != i)
+                    System.out.println("Index mismatch at " + i);
+            }
+            double lookup = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%10d %10s %14.1f %14.1f%n", size, "String", load, lookup);
+
+            WeightedGraph<Integer> numbered = new WeightedGraph<>();
+            numbered.enableVertexIndex();
+            start = System.nanoTime();
+            for (int i = 0; i < size; i++)
+                numbered.addVertex(i);
+            load = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            for (int i = 0; i < size; i++)
+            {
+                if (numbered.getIndex(i) != i)
+                    System.out.println("Index mismatch at " + i);
+            }
+            lookup = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%10d %10s %14.1f %14.1f%n", size, "Integer", load, lookup);
+
+            if (size <= LINEAR_VERTEX_LIMIT)
+            {
+                List<String> list = new ArrayList<>();
+                start = System.nanoTime();
+                for (int i = 0; i < size; i++)
+                {
+                    if (!list.contains(names[i]))
+                        list.add(names[i]);
+                }
+                load = (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                for (int i = 0; i < size; i++)
+                {
+                    if (list.indexOf(names[i]) != i)
+                        System.out.println("Index mismatch at " + i);
+                }
+                lookup = (System.nanoTime() - start) / 1e6;
+                System.out.printf("%10d %10s %14.1f %14.1f%n", size, "scan", load, lookup);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkHubs()
+     * Description  Connect a few hub vertices to every other vertex, both
+     *              directions, so each hub ends with a degree of up to
+     *              1M, then add every edge again and ask hasEdge for
+     *              random pairs. addEdge rejects the duplicates through
+     *              the edge index, enabled before the first edge. The
+     *              adjacency list scan it replaced is
+     *              timed up to LINEAR_VERTEX_LIMIT vertices, since it makes
+     *              loading a hub quadratic in its degree.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkHubs()
+    {
+        final int hubs = 4;
+        final int queries = 1000000;
+        Random random = new Random(SEED);
+
+        System.out.printf("%10s %8s %12s %16s %14s %14s%n", "vertices", "hubs", "edges",
+            "addEdge (ms)", "again (ms)", "hasEdge (ns)");
+        for (int n = 10000; n <= 1000000; n *= 10)
+        {
+            WeightedGraph<Integer> graph = new WeightedGraph<>(new ArrayList<>(), n);
+            graph.enableEdgeIndex();
+            long start = System.nanoTime();
+            for (int hub = 0; hub < hubs; hub++)
+            {
+                for (int v = hubs; v < n; v++)
+                {
+                    graph.addEdge(hub, v, 1);
+                    graph.addEdge(v, hub, 1);
+                }
+            }
+            double load = (System.nanoTime() - start) / 1e6;
+
+            int rejected = 0;
+            start = System.nanoTime();
+            for (int hub = 0; hub < hubs; hub++)
+            {
+                for (int v = hubs; v < n; v++)
+                {
+                    if (!graph.addEdge(hub, v, 1))
+                        rejected++;
+                }
+            }
+            double again = (System.nanoTime() - start) / 1e6;
+            if (rejected != hubs * (n - hubs))
+                System.out.println("Duplicate edges accepted");
+
+            int found = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++)
+            {
+                if (graph.hasEdge(random.nextInt(n), random.nextInt(n)))
+                    found++;
+            }
+            double nanos = (double)(System.nanoTime() - start) / queries;
+            System.out.printf("%10d %8d %12d %16.1f %14.1f %14.1f (%d found)%n", n, hubs,
+                2L * hubs * (n - hubs), load, again, nanos, found);
+
+            if (n <= LINEAR_VERTEX_LIMIT)
+            {
+                List<List<AbstractGraph.Edge>> lists = new ArrayList<>();
+                for (int v = 0; v < n; v++)
+                    lists.add(new ArrayList<>());
+                start = System.nanoTime();
+                for (int hub = 0; hub < hubs; hub++)
+                {
+                    for (int v = hubs; v < n; v++)
+                    {
+                        WeightedEdge out = new WeightedEdge(hub, v, 1);
+                        if (!lists.get(hub).contains(out))
+                            lists.get(hub).add(out);
+                        WeightedEdge in = new WeightedEdge(v, hub, 1);
+                        if (!lists.get(v).contains(in))
+                            lists.get(v).add(in);
+                    }
+                }
+                System.out.printf("%10d %8d %12s %16.1f   (adjacency list scan)%n", n,
+                    hubs, "", (System.nanoTime() - start) / 1e6);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkNeighbors()
+     * Description  Sum the targets and weights of every edge of a 1M vertex
+     *              road graph through each way of walking the neighbors:
+     *              the getNeighbors list, forEachNeighbor, forEachEdge and
+     *              a reused NeighborCursor. Each sweep is repeated after a
+     *              warm-up and reported as time and bytes allocated by
+     *              this thread per sweep.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkNeighbors()
+    {
+        WeightedGraph<Integer> graph = roadGraph(1000000, SEED);
+        Graph.NeighborCursor cursor = graph.createNeighborCursor();
+        final int runs = 10;
+        String[] walks = {"getNeighbors", "forEachNeighbor", "forEachEdge", "cursor"};
+
+        System.out.printf("%16s %14s %16s %14s%n", "walk", "ms per sweep", "bytes per sweep",
+            "M edges/s");
+        for (String walk : walks)
+        {
+            double checksum = 0;
+            for (int warmUp = 0; warmUp < 3; warmUp++)
+                checksum += neighborSweep(graph, walk, cursor);
+
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++)
+                checksum += neighborSweep(graph, walk, cursor);
+            double millis = (System.nanoTime() - start) / 1e6 / runs;
+            bytes = (allocatedBytes() - bytes) / runs;
+            long edges = graph.getEdgesFromGraph().size();
+            System.out.printf("%16s %14.1f %16d %14.1f   (checksum %.0f)%n", walk, millis,
+                bytes, edges / millis / 1e3, checksum);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       neighborSweep()
+     * Description  Walk every edge of graph one way of benchmarkNeighbors
+     *              and return the sum of the targets, plus the weights
+     *              where the walk sees them.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       walk String
+     * @param       cursor NeighborCursor
+     * @return      sum double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static double neighborSweep(WeightedGraph<?> graph, String walk,
+        Graph.NeighborCursor cursor)
+    {
+        int n = graph.getSize();
+        double[] sum = new double[1]; // Written by the callbacks
+        switch (walk)
+        {
+            case "getNeighbors":
+                for (int u = 0; u < n; u++)
+                {
+                    for (int v : graph.getNeighbors(u))
+                        sum[0] += v;
+                }
+                break;
+            case "forEachNeighbor":
+                IntConsumer action = v -> sum[0] += v;
+                for (int u = 0; u < n; u++)
+                    graph.forEachNeighbor(u, action);
+                break;
+            case "forEachEdge":
+                Graph.EdgeVisitor visitor = (from, v, weight) -> sum[0] += v + weight;
+                for (int u = 0; u < n; u++)
+                    graph.forEachEdge(u, visitor);
+                break;
+            default:
+                for (int u = 0; u < n; u++)
+                {
+                    cursor.reset(u);
+                    while (cursor.next())
+                        sum[0] += cursor.getTarget() + cursor.getWeight();
+                }
+        }
+        return sum[0];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkWeights()
+     * Description  Look up the weights of random edges out of 4 hubs joined
+     *              to every vertex of graphs of 10k to 1M vertices, and of
+     *              as many random pairs that are mostly not edges, with
+     *              getWeight, findWeight and getWeightOrDefault answered by
+     *              the edge index. The scan of the adjacency list they
+     *              replaced is timed on a few lookups only, since each
+     *              costs the degree of the hub.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkWeights()
+    {
+        final int hubs = 4;
+        final int lookups = 1000000;
+        final int scans = 1000;
+
+        System.out.printf("%10s %12s %14s %14s %14s %14s%n", "vertices", "lookup",
+            "getWeight", "findWeight", "orDefault", "list scan");
+        for (int n = 10000; n <= 1000000; n *= 10)
+        {
+            Random random = new Random(SEED);
+            WeightedGraph<Integer> graph = new WeightedGraph<>(new ArrayList<>(), n);
+            graph.enableEdgeIndex();
+            for (int hub = 0; hub < hubs; hub++)
+            {
+                for (int v = hubs; v < n; v++)
+                {
+                    double w = 1 + random.nextInt(100);
+                    graph.addEdge(hub, v, w);
+                    graph.addEdge(v, hub, w);
+                }
+            }
+
+            for (String lookup : new String[] {"hub edges", "random"})
+            {
+                int[] from = new int[lookups];
+                int[] to = new int[lookups];
+                for (int i = 0; i < lookups; i++)
+                {
+                    boolean hubEdge = lookup.equals("hub edges");
+                    from[i] = hubEdge ? random.nextInt(hubs) : random.nextInt(n);
+                    to[i] = hubs + random.nextInt(n - hubs);
+                }
+
+                double[] nanos = new double[4];
+                double checksum = 0;
+                for (int method = 0; method < nanos.length; method++)
+                {
+                    int count = method == 3 ? scans : lookups;
+                    long start = System.nanoTime();
+                    for (int i = 0; i < count; i++)
+                        checksum += weightLookup(graph, method, from[i], to[i]);
+                    nanos[method] = (double)(System.nanoTime() - start) / count;
+                }
+                System.out.printf("%10d %12s %14.1f %14.1f %14.1f %14.1f   ns per lookup"
+                    + " (checksum %.0f)%n", n, lookup, nanos[0], nanos[1], nanos[2],
+                    nanos[3], checksum);
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       weightLookup()
+     * Description  Look up the weight of (u, v) one way of benchmarkWeights:
+     *              0 getWeight, 1 findWeight, 2 getWeightOrDefault or 3 the
+     *              original scan of the adjacency list. Missing edges count
+     *              as 0.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       method int
+     * @param       u int
+     * @param       v int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static double weightLookup(WeightedGraph<?> graph, int method, int u, int v)
+    {
+        switch (method)
+        {
+            case 0:
+                try
+                {
+                    return graph.getWeight(u, v);
+                }
+                catch (Exception ex)
+                {
+                    return 0;
+                }
+            case 1:
+                return graph.findWeight(u, v).orElse(0);
+            case 2:
+                return graph.getWeightOrDefault(u, v, 0);
+            default:
+                for (AbstractGraph.Edge edge : graph.neighbors.get(u))
+                {
+                    if (edge.v == v)
+                        return ((WeightedEdge)edge).weight;
+                }
+                return 0;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkEdgeStore()
+     * Description  Hold the symmetric edges of road graphs of 1M and 4M
+     *              vertices once as a list of WeightedEdge objects and once
+     *              in an EdgeStore. Reports the heap each takes and the
+     *              time to build a WeightedGraph from it and to run
+     *              Kruskal's algorithm on it. The store is filled from the
+     *              generated list, which is dropped before it is measured.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkEdgeStore()
+    {
+        System.out.printf("%10s %10s %12s %10s %10s %10s%n", "vertices", "edges",
+            "storage", "MB", "graph ms", "MST ms");
+        for (int approximate = 1000000; approximate <= 4000000; approximate *= 4)
+        {
+            int n = gridSide(approximate) * gridSide(approximate);
+            for (String storage : new String[] {"list", "EdgeStore"})
+            {
+                long before = usedMemory();
+                List<WeightedEdge> list = null;
+                EdgeStore store = null;
+                if (storage.equals("list"))
+                    list = roadEdges(approximate, SEED);
+                else
+                {
+                    store = new EdgeStore();
+                    for (WeightedEdge edge : roadEdges(approximate, SEED))
+                        store.add(edge.u, edge.v, edge.weight);
+                }
+                long bytes = usedMemory() - before;
+                int edges = list != null ? list.size() : store.size();
+
+                long start = System.nanoTime();
+                WeightedGraph<Integer> graph = list != null
+                    ? new WeightedGraph<>(list, n) : new WeightedGraph<>(store, n);
+                double graphMillis = (System.nanoTime() - start) / 1e6;
+                graph = null;
+
+                start = System.nanoTime();
+                if (list != null)
+                    DisjointSetClass.kruskalsAlgorithm(list, n);
+                else
+                    DisjointSetClass.kruskalsAlgorithm(store, n);
+                double mstMillis = (System.nanoTime() - start) / 1e6;
+
+                System.out.printf("%10d %10d %12s %10.1f %10.0f %10.0f   (MST weight %.0f)%n",
+                    n, edges, storage, bytes / 1e6, graphMillis, mstMillis,
+                    DisjointSetClass.getTotalWeight());
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkOffHeap()
+     * Description  Hold a road graph of 4M vertices as a WeightedGraph, a
+     *              CSRGraph and an OffHeapGraph in turn. Reports the heap
+     *              and off-heap bytes each keeps, the time of a full
+     *              collection while it is live, which grows with what the
+     *              collector has to trace, and the time of a breadth-first
+     *              search.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkOffHeap()
+    {
+        final int approximate = 4000000;
+        final int runs = 5;
+        int n = gridSide(approximate) * gridSide(approximate);
+        EdgeStore store = new EdgeStore();
+        for (WeightedEdge edge : roadEdges(approximate, SEED))
+            store.add(edge.u, edge.v, edge.weight);
+
+        System.out.printf("%10s %10s %14s %10s %10s %10s %10s%n", "vertices", "edges",
+            "graph", "heap MB", "off MB", "GC ms", "bfs ms");
+        for (String kind : new String[] {"WeightedGraph", "CSRGraph", "OffHeapGraph"})
+        {
+            long before = usedMemory();
+            Object graph;
+            long offHeap = 0;
+            switch (kind)
+            {
+                case "WeightedGraph":
+                    graph = new WeightedGraph<Integer>(store, n);
+                    break;
+                case "CSRGraph":
+                    graph = new CSRGraph(store, n);
+                    break;
+                default:
+                    OffHeapGraph<Integer> offHeapGraph = new OffHeapGraph<>(store, n);
+                    offHeap = offHeapGraph.getMemoryBytes();
+                    graph = offHeapGraph;
+            }
+            long bytes = usedMemory() - before;
+
+            long start = System.nanoTime();
+            System.gc();
+            double gcMillis = (System.nanoTime() - start) / 1e6;
+
+            long found = 0;
+            start = System.nanoTime();
+            for (int run = 0; run < runs; run++)
+            {
+                found += graph instanceof CSRGraph
+                    ? ((CSRGraph)graph).bfs(run).getNumberOfVerticesFound()
+                    : ((Graph<?>)graph).bfs(run).getNumberOfVerticesFound();
+            }
+            double bfsMillis = (System.nanoTime() - start) / 1e6 / runs;
+
+            System.out.printf("%10d %10d %14s %10.1f %10.1f %10.0f %10.0f   (found %d)%n",
+                n, store.size(), kind, bytes / 1e6, offHeap / 1e6, gcMillis, bfsMillis,
+                found);
+            graph = null;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       benchmarkGraphFile()
+     * Description  Write road graphs of 1M and 4M vertices as edge files
+     *              and convert them with GraphFile. Compares loading the
+     *              edge file the way readFile does, parsing and building a
+     *              WeightedGraph, with opening the graph file, and times a
+     *              first breadth-first search on each.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void benchmarkGraphFile()
+    {
+        System.out.printf("%10s %10s %8s %8s %14s %10s %10s%n", "vertices", "edges",
+            "text MB", "file MB", "load", "load ms", "bfs ms");
+        for (int approximate = 1000000; approximate <= 4000000; approximate *= 4)
+        {
+            try
+            {
+                File text = File.createTempFile("edges", ".txt");
+                text.deleteOnExit();
+                int n = writeEdgeFile(text, approximate);
+                File binary = File.createTempFile("edges", GraphFile.EXTENSION);
+                binary.deleteOnExit();
+                GraphFile.convert(text.toPath(), binary.toPath());
+                int m = GraphFile.open(binary.toPath()).getNumberOfEdges();
+
+                for (String load : new String[] {"text + graph", "GraphFile.open"})
+                {
+                    usedMemory();
+                    long start = System.nanoTime();
+                    Graph<?> graph;
+                    if (load.equals("GraphFile.open"))
+                        graph = GraphFile.open(binary.toPath());
+                    else
+                    {
+                        GraphLoader loader = GraphLoader.load(text.getPath());
+                        EdgeStore edges = new EdgeStore(2 * loader.getNumberOfEdges());
+                        for (int i = 0; i < loader.getNumberOfEdges(); i++)
+                        {
+                            edges.add(loader.getSource(i), loader.getTarget(i),
+                                loader.getWeight(i));
+                            edges.add(loader.getTarget(i), loader.getSource(i),
+                                loader.getWeight(i));
+                        }
+                        graph = new WeightedGraph<Integer>(edges, n);
+                    }
+                    double loadMillis = (System.nanoTime() - start) / 1e6;
+
+                    start = System.nanoTime();
+                    int found = graph.bfs(0).getNumberOfVerticesFound();
+                    double bfsMillis = (System.nanoTime() - start) / 1e6;
+
+                    System.out.printf("%10d %10d %8.1f %8.1f %14s %10.1f %10.0f   (found %d)%n",
+                        n, m, text.length() / 1e6, binary.length() / 1e6, load,
+                        loadMillis, bfsMillis, found);
+                }
+            }
+            catch (IOException exp)
+            {
+                System.out.println("Cannot write benchmark file: " + exp.getMessage());
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       writeEdgeFile()
+     * Description  Write a road graph of about n vertices in the src/Data
+     *              edge format, each undirected edge once, with all edges
+     *              leaving the same vertex on one line.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       file File
+     * @param       n int
+     * @return      vertices int
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static int writeEdgeFile(File file, int n) throws IOException
+    {
+        List<WeightedEdge> edges = roadEdges(n, SEED);
+        int vertices = gridSide(n) * gridSide(n);
+        try (PrintWriter out = new PrintWriter(file))
+        {
+            out.println(vertices);
+            int last = -1;
+            for (int i = 0; i < edges.size(); i += 2) // Skip the reverse edges
+            {
+                WeightedEdge edge = edges.get(i);
+                if (edge.u == last)
+                    out.print(" | ");
+                else if (last != -1)
+                    out.println();
+                out.print(edge.u + ", " + edge.v + ", " + (int)edge.weight);
+                last = edge.u;
+            }
+            out.println();
+        }
+        return vertices;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       scannerLoad()
+     * Description  The original readFile parser kept as a baseline.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       file File
+     * @return      edges int
+     * @throws      java.io.FileNotFoundException if the file is missing
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static int scannerLoad(File file) throws FileNotFoundException
+    {
+        List<WeightedEdge> edges = new ArrayList<>();
+        try (Scanner inFile = new Scanner(file))
+        {
+            Integer.parseInt(inFile.nextLine());
+            while (inFile.hasNext())
+            {
+                String line = inFile.nextLine();
+                for (String tokens : line.split("[\\|]"))
+                {
+                    String[] token = tokens.split("[,]");
+                    int u = Integer.parseInt(token[0].trim());
+                    int v = Integer.parseInt(token[1].trim());
+                    double w = Double.parseDouble(token[2].trim());
+                    edges.add(new WeightedEdge(u, v, w));
+                }
+            }
+        }
+        return edges.size();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       usedMemory()
+     * Description  Return the heap in use after asking for a collection.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       allocatedBytes()
+     * Description  Return the number of bytes the current thread has
+     *              allocated so far.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static long allocatedBytes()
+    {
+        return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean())
+            .getCurrentThreadAllocatedBytes();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       linkedListBfs()
+     * Description  The original AbstractGraph.bfs kept as a baseline: a
+     *              LinkedList queue and a boxed search order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       v int
+     * @return      searchOrder List Integer
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static List<Integer> linkedListBfs(WeightedGraph<?> graph, int v)
+    {
+        List<Integer> searchOrder = new ArrayList<>();
+        int[] parent = new int[graph.getSize()];
+        for (int i = 0; i < parent.length; i++)
+            parent[i] = -1;
+
+        java.util.LinkedList<Integer> queue = new java.util.LinkedList<>();
+        boolean[] isVisited = new boolean[graph.getSize()];
+        queue.offer(v);
+        isVisited[v] = true;
+
+        while (!queue.isEmpty())
+        {
+            int u = queue.poll();
+            searchOrder.add(u);
+            for (AbstractGraph.Edge e : graph.neighbors.get(u))
+            {
+                if (!isVisited[e.v])
+                {
+                    queue.offer(e.v);
+                    parent[e.v] = u;
+                    isVisited[e.v] = true;
+                }
+            }
+        }
+        return searchOrder;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       linearScanShortestPath()
+     * Description  The original getShortestPath kept as a baseline: the next
+     *              vertex is found by scanning every vertex and checking a
+     *              List for membership.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       sourceVertex int
+     * @return      cost double[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static double[] linearScanShortestPath(WeightedGraph<?> graph, int sourceVertex)
+    {
+        int n = graph.getSize();
+        double[] cost = new double[n];
+        for (int i = 0; i < n; i++)
+            cost[i] = Double.POSITIVE_INFINITY;
+        cost[sourceVertex] = 0;
+
+        List<Integer> T = new ArrayList<>();
+        while (T.size() < n)
+        {
+            int u = -1;
+            double currentMinCost = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++)
+            {
+                if (!T.contains(i) && cost[i] < currentMinCost)
+                {
+                    currentMinCost = cost[i];
+                    u = i;
+                }
+            }
+            if (u == -1)
+                break; // The rest is unreachable
+
+            T.add(u);
+            for (AbstractGraph.Edge e : graph.neighbors.get(u))
+            {
+                double w = ((WeightedEdge)e).weight;
+                if (!T.contains(e.v) && cost[e.v] > cost[u] + w)
+                    cost[e.v] = cost[u] + w;
+            }
+        }
+        return cost;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       roadGraph()
+     * Description  Build a road-like undirected graph: a square grid where
+     *              each vertex joins its right and lower neighbor, plus a few
+     *              random diagonal shortcuts. Weights are random distances
+     *              between 10 and 1000. Both directions of every edge are
+     *              added, the same way readFile loads the data files.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       approximateVertices int
+     * @param       seed long
+     * @return      graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static WeightedGraph<Integer> roadGraph(int approximateVertices, long seed)
+    {
+        return new WeightedGraph<>(roadEdges(approximateVertices, seed),
+            gridSide(approximateVertices) * gridSide(approximateVertices));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       roadEdges()
+     * Description  Return the symmetric edge list used by roadGraph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       approximateVertices int
+     * @param       seed long
+     * @return      edges List WeightedEdge
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static List<WeightedEdge> roadEdges(int approximateVertices, long seed)
+    {
+        Random random = new Random(seed);
+        int side = gridSide(approximateVertices);
+        List<WeightedEdge> edges = new ArrayList<>();
+        for (int row = 0; row < side; row++)
+        {
+            for (int col = 0; col < side; col++)
+            {
+                int u = row * side + col;
+                if (col + 1 < side)
+                    addBothWays(edges, u, u + 1, 10 + random.nextInt(991));
+                if (row + 1 < side)
+                    addBothWays(edges, u, u + side, 10 + random.nextInt(991));
+                if (row + 1 < side && col + 1 < side && random.nextInt(10) == 0)
+                    addBothWays(edges, u, u + side + 1, 10 + random.nextInt(991));
+            }
+        }
+        return edges;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       scaleFreeGraph()
+     * Description  Build a Barabasi-Albert graph: a clique of edgesPerVertex
+     *              + 1 vertices, then every new vertex joins edgesPerVertex
+     *              distinct older vertices picked with probability
+     *              proportional to their degree. Picking a random end of a
+     *              random edge so far gives that probability. Both
+     *              directions of every edge are added, all with weight 1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       n int
+     * @param       edgesPerVertex int
+     * @param       seed long
+     * @return      graph WeightedGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static WeightedGraph<Integer> scaleFreeGraph(int n, int edgesPerVertex, long seed)
+    {
+        Random random = new Random(seed);
+        List<WeightedEdge> edges = new ArrayList<>();
+        int[] ends = new int[2 * n * edgesPerVertex]; // Both ends of every edge
+        int count = 0;
+
+        for (int u = 0; u <= edgesPerVertex; u++)
+        {
+            for (int v = u + 1; v <= edgesPerVertex; v++)
+            {
+                addBothWays(edges, u, v, 1);
+                ends[count++] = u;
+                ends[count++] = v;
+            }
+        }
+
+        int[] chosen = new int[edgesPerVertex];
+        for (int v = edgesPerVertex + 1; v < n; v++)
+        {
+            int picked = 0;
+            while (picked < edgesPerVertex)
+            {
+                int u = ends[random.nextInt(count)];
+                boolean isNew = true;
+                for (int i = 0; i < picked; i++)
+                    isNew &= chosen[i] != u;
+                if (isNew)
+                    chosen[picked++] = u;
+            }
+            for (int u : chosen)
+            {
+                addBothWays(edges, u, v, 1);
+                ends[count++] = u;
+                ends[count++] = v;
+            }
+        }
+        return new WeightedGraph<>(edges, n);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       gridSide()
+     * Description  Side length of the square grid closest to n vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       n int
+     * @return      side int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static int gridSide(int n)
+    {
+        return Math.max(2, (int)Math.round(Math.sqrt(n)));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addBothWays()
+     * Description  Add (u, v, w) and (v, u, w) to the edge list.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges List WeightedEdge
+     * @param       u int
+     * @param       v int
+     * @param       w double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void addBothWays(List<WeightedEdge> edges, int u, int v, double w)
+    {
+        edges.add(new WeightedEdge(u, v, w));
+        edges.add(new WeightedEdge(v, u, w));
+    }
+}
@@ -3,13 +3,13 @@ package GraphExplorer;
 import java.awt.HeadlessException;
 import java.awt.Toolkit;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -18,10 +18,10 @@ import javax.swing.filechooser.FileNameExtensionFilter;
  * Class        GraphExplorerGUI.java
  * Description  A class representing the GUI used in GraphExplorer
  *              This program reads data from text files and builds WeightedGraph
- *              using vertices as a String ArrayList and an ArrayList of WeightedEdges. The
+ *              using vertices as a String ArrayList and an EdgeStore of weighted edges. The
  *              WeightedEdges DisjointSetClass.kruskalAlgorithm yields an MST from the the graph,
- *              and the ds.dijkstraAlgorithm yields the shortest path tree taking into account
- *              the weights of the graph. 
+ *              and WeightedGraph.shortestPath yields the shortest path between two vertices
+ *              taking into account the weights of the graph. 
  * Project      GraphExplorer
  * Date         11/17/2023     
  * @author      <i>Kirill Grichanichenko</i>
@@ -31,10 +31,14 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 public class GraphExplorerGUI extends javax.swing.JFrame 
 {
     private String fileName = "src/Data/WeightedEdgesCities0.txt";
+    private String openedFileName = null;   // Chosen with New, until the combo box changes
+    private String loadedFileName = null;   // File the graph was read from, null if none
     private final String shortestPathFile = "src/Data/ShortestPath.txt";
     private StringBuffer output = new StringBuffer();
-    private List<WeightedEdge> edges;
+    private EdgeStore edges;
     private WeightedGraph<Integer> graph;
+    private OffHeapGraph<?> mappedGraph = null; // Graph of a mapped graph file, else null
+    private Heuristic heuristic = Heuristic.ZERO;
     private int numberOfVertices = 0;
     private boolean isConnected = false;
     private String shortestPathSaved = "";
@@ -51,58 +55,113 @@ public class GraphExplorerGUI extends javax.swing.JFrame
         initComponents();
         this.setIconImage(Toolkit.getDefaultToolkit().getImage("src/Images/Cities_small.png"));
         this.getRootPane().setDefaultButton(goJButton);
-        edges = new ArrayList<>();
+        fileJComboBox.addActionListener(evt -> openedFileName = null);
+        edges = new EdgeStore();
         graph = new WeightedGraph<>(edges, numberOfVertices); 
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     * Method       readFromFile()
-    * Description  Read text files and create ArrayLists of vertices and edges.
+    * Description  Read text files and create the EdgeStore of edges.
+    *              The file is parsed by GraphLoader; every edge is added in
+    *              both directions since the graphs are undirected. A graph
+    *              file written by GraphFile already holds both directions
+    *              and is only mapped: the OffHeapGraph is kept as it is and
+    *              searched in place, with no copy on the heap. The
+    *              matching cities file supplies the A* heuristic.
     * @author      <i>Kirill Grichanichenko</i>
     * @param       fileName String
     * Date         11/17/2023      
     *****************************************************************************/
     private void readFile(String fileName)
     {
+        loadedFileName = null;
         try
         {
-            File file = new File(fileName);
-            Scanner inFile = new Scanner(file);
-            edges = new ArrayList();
-            
-            String line = inFile.nextLine();
-            numberOfVertices = Integer.parseInt(line);
-            
-            while(inFile.hasNext())
+            if(fileName.endsWith(GraphFile.EXTENSION))
+            {
+                mappedGraph = GraphFile.open(Paths.get(fileName));
+                numberOfVertices = mappedGraph.getSize();
+                edges = new EdgeStore(); // Let the last text graph go
+                graph = null;
+            }
+            else
             {
-                line = inFile.nextLine();
-                
-                String[] tokenizer = line.split("[\\|]");
-                
-                for(String tokens: tokenizer)
+                GraphLoader loader = GraphLoader.load(fileName);
+                numberOfVertices = loader.getNumberOfVertices();
+                edges = new EdgeStore(2 * loader.getNumberOfEdges());
+
+                for(int i = 0; i < loader.getNumberOfEdges(); i++)
                 {
-                    String[] token = tokens.split("[,]");
-                    int u = Integer.parseInt(token[0].trim());
-                    int v = Integer.parseInt(token[1].trim());
-                    double w = Double.parseDouble(token[2].trim());
-                    
-                    edges.add(new WeightedEdge(u, v, w));
-                    edges.add(new WeightedEdge(v, u, w));
-                    
+                    int u = loader.getSource(i);
+                    int v = loader.getTarget(i);
+                    double w = loader.getWeight(i);
+
+                    edges.add(u, v, w);
+                    edges.add(v, u, w);
                 }
+                mappedGraph = null;
             }
+
+            heuristic = readHeuristic(fileName);
+            loadedFileName = fileName;
         }
-        catch(FileNotFoundException exp)
+        catch(NoSuchFileException exp)
         {
             JOptionPane.showMessageDialog(null, "File Not Found", "File not found error!", JOptionPane.ERROR_MESSAGE);
         }
+        catch(IOException exp)
+        {
+            JOptionPane.showMessageDialog(null, exp.getMessage(), "File read error!", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       readHeuristic()
+     * Description  Read the cities file of an edge file: WeightedEdgesX.txt
+     *              or WeightedEdgesX.graph goes with WeightedX.txt. If it
+     *              has a latitude and longitude for every vertex, shortest
+     *              path queries use A* with the great-circle distance,
+     *              otherwise they fall back to Dijkstra's algorithm. Edge
+     *              files named otherwise, a missing cities file and one that
+     *              cannot be parsed all fall back as well, so the graph
+     *              still loads.
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edgesFileName String
+     * @return      heuristic Heuristic
+     * Date         10/18/2026
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private Heuristic readHeuristic(String edgesFileName) throws IOException
+    {
+        Path edgesPath = Paths.get(edgesFileName);
+        String name = edgesPath.getFileName().toString();
+        if (!name.contains("WeightedEdges"))
+            return Heuristic.ZERO;
+
+        Path citiesPath = edgesPath.resolveSibling(name.replace("WeightedEdges", "Weighted")
+            .replaceFirst("[.][^.]+$", ".txt"));
+        if (citiesPath.equals(edgesPath) || !Files.exists(citiesPath))
+            return Heuristic.ZERO;
+
+        try
+        {
+            CityLoader cities = CityLoader.load(citiesPath);
+            if (cities.getNumberOfCities() != numberOfVertices)
+                return Heuristic.ZERO;
+            return cities.getHeuristic();
+        }
+        catch (IllegalArgumentException exp)
+        {
+            return Heuristic.ZERO;
+        }
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       createGraph()
-     * Description  Created WeightedGraph and associated tree and decide if
-     *              the graph is connected. If so, invoke GraphExplorer's Algorithm method
-     *              on the graph to generate the MST.
+     * Description  Created WeightedGraph and decide from its components if
+     *              the graph is connected. Invoke Kruskal's algorithm on the
+     *              edges to generate the MST. A mapped graph file only gets
+     *              its connectivity checked, see createMappedGraph.
      * @author      <i>Kirill Grichanichenko</i>
      * Date         11/17/2023 
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
@@ -110,19 +169,22 @@ public class GraphExplorerGUI extends javax.swing.JFrame
     {
         resultsJTextArea.setText("");
         output = new StringBuffer();
+        if(mappedGraph != null)
+        {
+            createMappedGraph();
+            return;
+        }
         
-        graph = new WeightedGraph(edges, numberOfVertices);
+        graph = new WeightedGraph<>(edges, numberOfVertices);
         
         // Use kruskal's algorithm.
         edges = DisjointSetClass.kruskalsAlgorithm(edges, numberOfVertices);
         output.append("The number of Vertices is " + numberOfVertices + "\n\n");
         
-        // Use dfs to get tree.
-        AbstractGraph<Integer>.Tree tree = graph.dfs(0);
         output.append(graph.displayWeightedEdges() + "\n");
         
-        // Check if connected.
-        if(tree.getNumberOfVerticesFound() == numberOfVertices)
+        // Check if connected; the components are labeled once per graph.
+        if(graph.isConnected())
         {
             output.append("The graph is connected");
             isConnected = true;
@@ -140,19 +202,42 @@ public class GraphExplorerGUI extends javax.swing.JFrame
         resultsJTextArea.setText(output.toString());
     }
     
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createMappedGraph()
+     * Description  Decide if the mapped graph is connected. The edge listing
+     *              and Kruskal's algorithm are skipped: both would copy
+     *              every edge onto the heap, which is what mapping the file
+     *              avoids. Shortest paths are searched on the mapped graph.
+     * @author      <i>Kirill Grichanichenko</i>
+     * Date         10/18/2026 
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void createMappedGraph()
+    {
+        output.append("The number of Vertices is " + numberOfVertices + "\n\n");
+        output.append("The edges and the MST of a graph file are not listed\n\n");
+        
+        isConnected = mappedGraph.isConnected();
+        if(isConnected)
+            output.append("The graph is connected");
+        else
+            output.append("The graph is not connected");
+        resultsJTextArea.setText(output.toString());
+    }
+    
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       displayEdges()
      * Description  Return a String of all weighted edges.
      * @author      <i>Kirill Grichanichenko</i>
-     * @param       edges List WeightedEdge
+     * @param       edges EdgeStore
      * @return      edges StringBuffer
      * Date         11/17/2023    
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
-    public StringBuffer displayEdges(List<WeightedEdge> edges)
+    public StringBuffer displayEdges(EdgeStore edges)
     {
         StringBuffer out = new StringBuffer();
+        WeightedEdge edge = new WeightedEdge(0, 0, 0); // Reused for every edge
         for(int i = 0; i < edges.size(); i++)
-            out.append(edges.get(i));
+            out.append(edges.getEdge(i, edge));
         return out;
     }
 
@@ -430,16 +515,18 @@ public class GraphExplorerGUI extends javax.swing.JFrame
         try
         {
           JFileChooser chooser = new JFileChooser("src/Data");
-          FileNameExtensionFilter filter = new FileNameExtensionFilter("Txt Files", "txt");
+          FileNameExtensionFilter filter = new FileNameExtensionFilter("Txt and Graph Files", "txt",
+              GraphFile.EXTENSION.substring(1));
           chooser.setFileFilter(filter);
           int choice = chooser.showOpenDialog(null);
           if(choice == JFileChooser.APPROVE_OPTION)
           {
               File chosenFile = chooser.getSelectedFile();
-              fileName = "src/Data/" + chosenFile.getName();
+              fileName = chosenFile.getPath();
               
               String comboBoxName = chosenFile.getName().replaceFirst("[.][^.]+$", "");
               fileJComboBox.setSelectedItem(comboBoxName);
+              openedFileName = fileName; // Go and Shortest Path reload this file
               
               readFile(fileName);
               createGraph();
@@ -507,7 +594,9 @@ public class GraphExplorerGUI extends javax.swing.JFrame
      * Method       shortestPathJButtonActionPerformed()
      * Description  If the graph is connected, prompt the user to enter two 
      *              vertices and then display the shortest path between the 
-     *              two vertices with taking into account the weight.
+     *              two vertices with taking into account the weight. The
+     *              graph is only rebuilt if none is loaded or another file
+     *              has been chosen since, so repeated queries reuse it.
      * @author      <i>Kirill Grichanichenko</i>
      * Date         11/17/2023      
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
@@ -530,13 +619,16 @@ public class GraphExplorerGUI extends javax.swing.JFrame
      * Method       shortestPathJMenuItemActionPerformed()
      * Description  If the graph is connected, prompt the user to enter two 
      *              vertices and then display the shortest path between the 
-     *              two vertices with taking into account the weight.
+     *              two vertices with taking into account the weight. The
+     *              graph is only rebuilt if none is loaded or another file
+     *              has been chosen since, so repeated queries reuse it.
      * @author      <i>Kirill Grichanichenko</i>
      * Date         11/17/2023      
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
     private void shortestPathJMenuItemActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_shortestPathJMenuItemActionPerformed
         try {
-            goJButtonActionPerformed(evt);
+            if(loadedFileName == null || !loadedFileName.equals(getSelectedFileName()))
+                goJButtonActionPerformed(evt);
             
             // Check if not connected
             if (!isConnected) 
@@ -547,64 +639,24 @@ public class GraphExplorerGUI extends javax.swing.JFrame
             {
                 int v1 = Integer.parseInt(JOptionPane.showInputDialog("Enter the first vertex"));
                 int v2 = Integer.parseInt(JOptionPane.showInputDialog("Enter the second Vertex"));
-                goJButton.doClick();
-                if(v2 > graph.getSize() - 1 || v2 < 0 || v1 > graph.getSize() - 1 || v1 < 0) // Validate Input
+                int size = mappedGraph != null ? mappedGraph.getSize() : graph.getSize();
+                if(v2 > size - 1 || v2 < 0 || v1 > size - 1 || v1 < 0) // Validate Input
                 {
                     JOptionPane.showMessageDialog(null, "Cannot find path", "Path Error!", JOptionPane.INFORMATION_MESSAGE);
                 }
                 else
                 {
-                     // Get edges from the graph
-                    List<WeightedEdge> edges = graph.getEdgesFromGraph();
-                    DisjointSetClass ds = new DisjointSetClass();
-                    ds.make_set(graph.getSize());
-                    
-                    // Use Dijkstra's algorithm
-                    List<WeightedEdge> shortestPath = ds.dijkstrasAlgorithm(edges, graph.getSize(), v1);
-                    
-                    // Track path and total weight.
-                    List<Integer> path = new ArrayList<>();
-                    double shortestPathTotalWeight = 0;
-                    int currentVertex = v2;
-
-                    // Rebuild the path.
-                    while (currentVertex != v1) 
-                    {
-                        
-                        path.add(currentVertex);
-                        int pred = -1;
-                        for (WeightedEdge edge : shortestPath) 
-                        {
-                            
-                            if (edge.v == currentVertex) 
-                            {
-                                pred = edge.u;
-                                shortestPathTotalWeight += edge.weight;
-                                break;
-                            }
-                        } 
-                        if (pred == -1) 
-                        { 
-                            break;
-                        }
-                        currentVertex = pred;
-                    }
+                    // A* when the cities have coordinates, else Dijkstra
+                    GraphPath path = mappedGraph != null
+                        ? mappedGraph.shortestPath(v1, v2, heuristic)
+                        : graph.shortestPath(v1, v2, heuristic);
                     
                     // Display the shortest path.
-                    shortestPathSaved = ("The shortest path from (" + v1 + ") to (" + v2 + ") is: " + v1 + ", ");
-                    output.append("\n\nThe shortest path from (" + v1 + ") to (" + v2 + ") is: " + v1 + ", ");
-                    for (int i = path.size() - 1; i >= 1; i--) 
-                    {
-                        
-                        output.append(path.get(i) + ", ");
-                        shortestPathSaved += (path.get(i) + ", ");
-                    }
-                    
-                    output.append(v2);
-                    shortestPathSaved += v2;
+                    shortestPathSaved = ("The shortest path from (" + v1 + ") to (" + v2 + ") is: " + path);
+                    output.append("\n\nThe shortest path from (" + v1 + ") to (" + v2 + ") is: " + path);
                     
-                    shortestPathSaved += "\nShortest Path Total Weight/Distance: " + shortestPathTotalWeight;
-                    output.append("\nShortest Path Total Weight/Distance: " + shortestPathTotalWeight);
+                    shortestPathSaved += "\nShortest Path Total Weight/Distance: " + path.getCost();
+                    output.append("\nShortest Path Total Weight/Distance: " + path.getCost());
                     
                     shortestPathButtonClicked = true;
                     resultsJTextArea.setText(output.toString());
@@ -653,7 +705,9 @@ public class GraphExplorerGUI extends javax.swing.JFrame
      * Method       goJButtonActionPerformed()
      * Description  Event handler to start the application. Calls readFromFile
      *              to read both cities and edges text files and createGraph to
-     *              create the weighted graph.
+     *              create the weighted graph. The file opened with New, text
+     *              or graph file, is read until another one is picked in
+     *              the combo box.
      * @author      <i>Kirill Grichanichenko</i>
      * Date         11/17/2023     
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
@@ -662,8 +716,7 @@ public class GraphExplorerGUI extends javax.swing.JFrame
        {
            resultsJTextArea.setText("");
            output = new StringBuffer();
-           String nameOfFile= fileJComboBox.getSelectedItem().toString();
-           fileName = "src/Data/" + nameOfFile + ".txt";
+           fileName = getSelectedFileName();
            readFile(fileName);
            createGraph();
        }
@@ -673,6 +726,21 @@ public class GraphExplorerGUI extends javax.swing.JFrame
        }
     }//GEN-LAST:event_goJButtonActionPerformed
 
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSelectedFileName()
+     * Description  Return the file Go reads: the file opened with New, or
+     *              the text file picked in the combo box.
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      fileName String
+     * Date         10/18/2026
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private String getSelectedFileName()
+    {
+        if(openedFileName != null)
+            return openedFileName;
+        return "src/Data/" + fileJComboBox.getSelectedItem().toString() + ".txt";
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       showGraphJButtonActionPerformed()
      * Description  Display picture of the two files and the graphs used.
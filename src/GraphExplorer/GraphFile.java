@@ -0,0 +1,498 @@
+package GraphExplorer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GraphFile.java
+ * Description  Binary graph file that opens by memory mapping instead of
+ *              parsing. The file is the compressed sparse row columns of
+ *              an OffHeapGraph as they lie in memory, so open only reads
+ *              the header and maps the columns; pages are read from disk
+ *              as the graph touches them. All numbers are little-endian
+ *              and every section starts at a multiple of 8 bytes:
+ *                  header   HEADER_SIZE bytes, see below
+ *                  offsets  int per vertex, plus one at the end
+ *                  targets  int per edge
+ *                  weights  double per edge
+ *                  names    optional: int offset per vertex, plus one
+ *                           at the end, into the UTF-8 names that follow
+ *              The header holds MAGIC, VERSION, the flags, the vertex and
+ *              edge counts, the position of every section and the file
+ *              length. A file of a later version or of the wrong length
+ *              is refused. Run main to convert an edge file of src/Data:
+ *                  java GraphExplorer.GraphFile src/Data/WeightedEdgesCities0.txt
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class GraphFile
+{
+    public static final String EXTENSION = ".graph";
+    public static final int MAGIC = 0x46475847;     // "GXGF" in file order
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int FLAG_NAMES = 1;         // The file has a name table
+
+    // Header fields, by byte position
+    private static final int MAGIC_AT = 0;
+    private static final int VERSION_AT = 4;
+    private static final int FLAGS_AT = 8;
+    private static final int VERTICES_AT = 12;
+    private static final int EDGES_AT = 16;
+    private static final int OFFSETS_AT = 24;
+    private static final int TARGETS_AT = 32;
+    private static final int WEIGHTS_AT = 40;
+    private static final int NAMES_AT = 48;
+    private static final int LENGTH_AT = 56;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  GraphFile()
+     * Description  Only the static methods are used.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private GraphFile()
+    {
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       main()
+     * Description  Convert the edge file args[0] to a graph file, named
+     *              args[1] or else args[0] with the EXTENSION.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       args String[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static void main(String[] args)
+    {
+        if (args.length == 0)
+        {
+            System.out.println("Usage: java GraphExplorer.GraphFile edges.txt [output"
+                + EXTENSION + "]");
+            return;
+        }
+
+        Path text = Paths.get(args[0]);
+        Path binary = args.length > 1 ? Paths.get(args[1]) : getBinaryPath(text);
+        try
+        {
+            long start = System.nanoTime();
+            convert(text, binary);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            start = System.nanoTime();
+            OffHeapGraph<?> graph = open(binary);
+            double openMillis = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%s: %d vertices, %d edges, %d bytes, written in %.1f ms,"
+                + " opened in %.2f ms%n", binary, graph.getSize(),
+                graph.getNumberOfEdges(), Files.size(binary), millis, openMillis);
+        }
+        catch (IOException | IllegalArgumentException exp)
+        {
+            System.out.println("Cannot convert " + text + ": " + exp.getMessage());
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getBinaryPath()
+     * Description  Return the path of the graph file for an edge file: the
+     *              same name with the EXTENSION instead of its own.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       text Path
+     * @return      binary Path
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static Path getBinaryPath(Path text)
+    {
+        String name = text.getFileName().toString().replaceFirst("[.][^.]+$", "");
+        return text.resolveSibling(name + EXTENSION);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       convert()
+     * Description  Parse an edge file with GraphLoader and write it as a
+     *              graph file. Every edge is stored both ways, as
+     *              GraphExplorerGUI.readFile adds them. If the matching
+     *              cities file has a name for every vertex, the names go
+     *              into the name table.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       text Path
+     * @param       binary Path
+     * @throws      java.io.IOException if a file cannot be read or written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static void convert(Path text, Path binary) throws IOException
+    {
+        GraphLoader loader = GraphLoader.load(text);
+        int n = loader.getNumberOfVertices();
+        EdgeStore edges = new EdgeStore(2 * loader.getNumberOfEdges());
+        for (int i = 0; i < loader.getNumberOfEdges(); i++)
+        {
+            int u = loader.getSource(i);
+            int v = loader.getTarget(i);
+            double w = loader.getWeight(i);
+            edges.add(u, v, w);
+            edges.add(v, u, w);
+        }
+        OffHeapGraph<Integer> graph = new OffHeapGraph<>(edges, n);
+
+        List<?> vertices = graph.getVertices();
+        Path cities = text.resolveSibling(
+            text.getFileName().toString().replace("WeightedEdges", "Weighted"));
+        if (!cities.equals(text) && Files.exists(cities))
+        {
+            CityLoader loaded = CityLoader.load(cities);
+            if (loaded.getNumberOfCities() == n)
+                vertices = loaded.getNames();
+        }
+        write(graph, vertices, binary);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       write()
+     * Description  Write any graph, a WeightedGraph or an OffHeapGraph for
+     *              instance, keeping the order of its adjacency lists. The
+     *              vertices are written as names with String.valueOf unless
+     *              they are just 0, 1, ... .
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph Graph
+     * @param       path Path
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static void write(Graph<?> graph, Path path) throws IOException
+    {
+        write(graph, graph.getVertices(), path);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       write()
+     * Description  Write the edges of graph with the given vertices. The
+     *              section positions follow from the counts, so the header
+     *              is written first and every section in one pass.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph Graph
+     * @param       vertices List
+     * @param       path Path
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void write(Graph<?> graph, List<?> vertices, Path path)
+        throws IOException
+    {
+        int n = graph.getSize();
+        long m = 0;
+        for (int u = 0; u < n; u++)
+            m += graph.getDegree(u);
+        if (m > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many edges: " + m);
+        boolean hasNames = !OffHeapGraph.isIndexList(vertices);
+
+        long nameBytes = 0;
+        if (hasNames)
+        {
+            for (Object vertex : vertices)
+                nameBytes += String.valueOf(vertex).getBytes(StandardCharsets.UTF_8).length;
+            // The name table is mapped as one buffer
+            if (4L * (n + 1) + nameBytes > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Names too long: " + nameBytes + " bytes");
+        }
+
+        long offsetsAt = HEADER_SIZE;
+        long targetsAt = align(offsetsAt + 4L * (n + 1));
+        long weightsAt = align(targetsAt + 4L * m);
+        long namesAt = hasNames ? align(weightsAt + 8L * m) : 0;
+        long length = hasNames ? namesAt + 4L * (n + 1) + nameBytes : weightsAt + 8L * m;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(hasNames ? FLAG_NAMES : 0);
+            buffer.putInt(n).putInt((int)m).putInt(0);
+            buffer.putLong(offsetsAt).putLong(targetsAt).putLong(weightsAt);
+            buffer.putLong(namesAt).putLong(length);
+
+            int edge = 0;
+            for (int u = 0; u < n; u++)
+            {
+                flushIfFull(channel, buffer);
+                buffer.putInt(edge);
+                edge += graph.getDegree(u);
+            }
+            buffer.putInt(edge);
+            pad(channel, buffer, targetsAt);
+
+            Graph.NeighborCursor cursor = graph.createNeighborCursor();
+            for (int u = 0; u < n; u++)
+            {
+                cursor.reset(u);
+                while (cursor.next())
+                {
+                    flushIfFull(channel, buffer);
+                    buffer.putInt(cursor.getTarget());
+                }
+            }
+            pad(channel, buffer, weightsAt);
+
+            for (int u = 0; u < n; u++)
+            {
+                cursor.reset(u);
+                while (cursor.next())
+                {
+                    flushIfFull(channel, buffer);
+                    buffer.putDouble(cursor.getWeight());
+                }
+            }
+
+            if (hasNames)
+            {
+                pad(channel, buffer, namesAt);
+                int offset = 0;
+                for (Object vertex : vertices)
+                {
+                    flushIfFull(channel, buffer);
+                    buffer.putInt(offset);
+                    offset += String.valueOf(vertex).getBytes(StandardCharsets.UTF_8).length;
+                }
+                buffer.putInt(offset);
+                for (Object vertex : vertices)
+                {
+                    byte[] name = String.valueOf(vertex).getBytes(StandardCharsets.UTF_8);
+                    for (int i = 0; i < name.length; )
+                    {
+                        flushIfFull(channel, buffer);
+                        int count = Math.min(name.length - i, buffer.remaining());
+                        buffer.put(name, i, count);
+                        i += count;
+                    }
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       open()
+     * Description  Map a graph file read-only and return it as an
+     *              OffHeapGraph, with String vertices if it has names and
+     *              Integer vertices 0, 1, ... otherwise. Only the header is
+     *              read and checked here; the mapping stays valid after the
+     *              file is closed and is released with the graph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @return      graph OffHeapGraph
+     * @throws      java.io.IOException if the file cannot be read or is not
+     *              a graph file of a known version
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static OffHeapGraph<?> open(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            if (channel.size() < HEADER_SIZE)
+                throw new IOException("Not a graph file: " + path);
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(MAGIC_AT) != MAGIC)
+                throw new IOException("Not a graph file: " + path);
+            int version = header.getInt(VERSION_AT);
+            if (version < 1 || version > VERSION)
+                throw new IOException("Unsupported graph file version " + version
+                    + ": " + path);
+
+            int n = header.getInt(VERTICES_AT);
+            int m = header.getInt(EDGES_AT);
+            long offsetsAt = header.getLong(OFFSETS_AT);
+            long targetsAt = header.getLong(TARGETS_AT);
+            long weightsAt = header.getLong(WEIGHTS_AT);
+            long namesAt = header.getLong(NAMES_AT);
+            boolean hasNames = (header.getInt(FLAGS_AT) & FLAG_NAMES) != 0;
+            if (n < 0 || m < 0 || header.getLong(LENGTH_AT) != channel.size()
+                || offsetsAt < HEADER_SIZE || targetsAt < offsetsAt + 4L * (n + 1)
+                || weightsAt < targetsAt + 4L * m
+                || channel.size() < weightsAt + 8L * m
+                || (hasNames && (namesAt < weightsAt + 8L * m
+                    || channel.size() < namesAt + 4L * (n + 1))))
+                throw new IOException("Damaged graph file: " + path);
+
+            ByteBuffer[] offsets = map(channel, offsetsAt, 4L * (n + 1));
+            ByteBuffer[] targets = map(channel, targetsAt, 4L * m);
+            ByteBuffer[] weights = map(channel, weightsAt, 8L * m);
+            if (hasNames)
+            {
+                ByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, namesAt,
+                    channel.size() - namesAt).order(ByteOrder.LITTLE_ENDIAN);
+                return new OffHeapGraph<>(n, m, offsets, targets, weights,
+                    new NameList(names, n));
+            }
+            return new OffHeapGraph<Integer>(n, m, offsets, targets, weights, null);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       map()
+     * Description  Map bytes bytes of the file from position on in pages of
+     *              OffHeapGraph.PAGE_SIZE, as OffHeapGraph reads them.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       channel FileChannel
+     * @param       position long
+     * @param       bytes long
+     * @return      pages ByteBuffer[]
+     * @throws      java.io.IOException if the file cannot be mapped
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static ByteBuffer[] map(FileChannel channel, long position, long bytes)
+        throws IOException
+    {
+        long pageSize = OffHeapGraph.PAGE_SIZE;
+        ByteBuffer[] pages = new ByteBuffer[(int)((bytes + pageSize - 1) / pageSize)];
+        for (int i = 0; i < pages.length; i++)
+        {
+            long size = Math.min(pageSize, bytes - i * pageSize);
+            pages[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + i * pageSize,
+                size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return pages;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       align()
+     * Description  Round position up to a multiple of 8.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       position long
+     * @return      position long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static long align(long position)
+    {
+        return (position + 7) & ~7L;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       pad()
+     * Description  Write out the buffer, then zero bytes up to position.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       channel FileChannel
+     * @param       buffer ByteBuffer
+     * @param       position long
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void pad(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException
+    {
+        flush(channel, buffer);
+        for (long at = channel.position(); at < position; at++)
+            buffer.put((byte)0);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       flushIfFull()
+     * Description  Write out the buffer if it has no room for a double.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       channel FileChannel
+     * @param       buffer ByteBuffer
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void flushIfFull(FileChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        if (buffer.remaining() < 8)
+            flush(channel, buffer);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       flush()
+     * Description  Write out and empty the buffer.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       channel FileChannel
+     * @param       buffer ByteBuffer
+     * @throws      java.io.IOException if the file cannot be written
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void flush(FileChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        NameList
+     * Description  Read-only list over a mapped name table that decodes a
+     *              name each time it is read.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class NameList extends AbstractList<String>
+        implements RandomAccess
+    {
+        private final ByteBuffer table; // Offsets, then the UTF-8 names
+        private final int size;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  NameList()
+         * Description  Construct the list of size names in table.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       table ByteBuffer
+         * @param       size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        NameList(ByteBuffer table, int size)
+        {
+            this.table = table;
+            this.size = size;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       get()
+         * Description  Return name i.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @return      name String
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public String get(int i)
+        {
+            if (i < 0 || i >= size)
+                throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+
+            int data = 4 * (size + 1);
+            int start = table.getInt(4 * i);
+            byte[] name = new byte[table.getInt(4 * (i + 1)) - start];
+            table.get(data + start, name);
+            return new String(name, StandardCharsets.UTF_8);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       size()
+         * Description  Return the number of names.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package GraphExplorer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GraphLoader.java
+ * Description  Streaming parser for the edge files in src/Data. The first
+ *              line holds the number of vertices and every following line
+ *              holds edges separated by '|', each written as "u, v, w":
+ *                  12
+ *                  0, 1, 807 | 0, 3, 1331 | 0, 5, 2097
+ *              The file is read through a FileChannel into a direct buffer
+ *              and tokenized byte by byte; no String is created per line or
+ *              per number. Edges go straight into an EdgeStore, once per
+ *              input edge as written in the file. Malformed input raises an
+ *              IllegalArgumentException naming the line.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class GraphLoader
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int EOF = -1;
+    // Powers of ten that are exact doubles, for decimal weights
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private int numberOfVertices;
+    private final EdgeStore edges = new EdgeStore();
+    private long bytesRead;
+    private long elapsedNanos;
+
+    // Tokenizer state
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private int line;
+    private final StringBuilder token = new StringBuilder();
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  GraphLoader()
+     * Description  Use load to create a loader.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private GraphLoader()
+    {
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Parse the edge file with the given name.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       fileName String
+     * @return      loader GraphLoader
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static GraphLoader load(String fileName) throws IOException
+    {
+        return load(Paths.get(fileName));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       load()
+     * Description  Parse the edge file at the given path.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       path Path
+     * @return      loader GraphLoader
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static GraphLoader load(Path path) throws IOException
+    {
+        GraphLoader loader = new GraphLoader();
+        long start = System.nanoTime();
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            loader.channel = fileChannel;
+            loader.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            loader.buffer.limit(0);
+            loader.parse();
+        }
+        finally
+        {
+            loader.channel = null;
+            loader.buffer = null;
+        }
+        loader.elapsedNanos = System.nanoTime() - start;
+        return loader;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfVertices()
+     * Description  Return the vertex count from the first line of the file.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfVertices()
+    {
+        return numberOfVertices;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfEdges()
+     * Description  Return the number of edges written in the file.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfEdges()
+    {
+        return edges.size();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSource()
+     * Description  Return the start vertex u of edge i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSource(int i)
+    {
+        return edges.getSource(i);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getTarget()
+     * Description  Return the end vertex v of edge i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getTarget(int i)
+    {
+        return edges.getTarget(i);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeight()
+     * Description  Return the weight w of edge i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getWeight(int i)
+    {
+        return edges.getWeight(i);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdges()
+     * Description  Return the parsed edges. The store is shared, not copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges EdgeStore
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public EdgeStore getEdges()
+    {
+        return edges;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getBytesRead()
+     * Description  Return the size of the parsed file in bytes.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getBytesRead()
+    {
+        return bytesRead;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getElapsedNanos()
+     * Description  Return the time spent opening and parsing the file.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      nanoseconds long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMegabytesPerSecond()
+     * Description  Return the parsing throughput in MB/s.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      throughput double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getMegabytesPerSecond()
+    {
+        return bytesRead / 1e6 / (Math.max(elapsedNanos, 1) / 1e9);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdgesPerSecond()
+     * Description  Return the parsing throughput in edges per second.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      throughput double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getEdgesPerSecond()
+    {
+        return edges.size() / (Math.max(elapsedNanos, 1) / 1e9);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       toString()
+     * Description  Summarize the load as size, time and throughput.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      String string
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public String toString()
+    {
+        return String.format("%d vertices, %d edges, %d bytes in %.1f ms "
+            + "(%.1f MB/s, %.0f edges/s)", numberOfVertices, edges.size(),
+            bytesRead, elapsedNanos / 1e6, getMegabytesPerSecond(),
+            getEdgesPerSecond());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       parse()
+     * Description  Read the vertex count and then every group of three
+     *              numbers. Commas separate the numbers of an edge; '|' and
+     *              line breaks end an edge. Blank lines and a trailing '|'
+     *              are skipped, as the Scanner based readFile did.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void parse() throws IOException
+    {
+        line = 1;
+        skipBlanks();
+        numberOfVertices = parseInteger();
+        int c = skipBlanks();
+        if (c != '\n' && c != EOF)
+            throw error("unexpected '" + (char)c + "' after number of vertices");
+
+        while (true)
+        {
+            // Skip line breaks and blank lines between edges
+            while ((c = peek()) == '\n' || c == '\r' || c == ' ' || c == '\t')
+            {
+                if (c == '\n')
+                    line++;
+                next();
+            }
+            if (c == EOF)
+                break;
+
+            int u = parseInteger();
+            expect(',');
+            int v = parseInteger();
+            expect(',');
+            double w = parseDouble();
+            addEdge(u, v, w);
+
+            c = skipBlanks();
+            if (c == '|')
+            {
+                next(); // A '|' at the end of a line is allowed
+                skipBlanks();
+            }
+            else if (c != '\n' && c != EOF)
+            {
+                throw error("unexpected '" + (char)c + "' after edge");
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addEdge()
+     * Description  Check both ends of an edge and append it to the store.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @param       w double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void addEdge(int u, int v, double w)
+    {
+        if (u < 0 || u >= numberOfVertices)
+            throw error("no such vertex " + u);
+        if (v < 0 || v >= numberOfVertices)
+            throw error("no such vertex " + v);
+
+        edges.add(u, v, w);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       parseInteger()
+     * Description  Parse a non-negative int starting at the next byte.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      value int
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int parseInteger() throws IOException
+    {
+        int c = peek();
+        if (c < '0' || c > '9')
+            throw unexpected(c, "a number");
+
+        long value = 0;
+        while ((c = peek()) >= '0' && c <= '9')
+        {
+            next();
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE)
+                throw error("number too large");
+        }
+        return (int)value;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       parseDouble()
+     * Description  Parse a weight starting at the next byte. Plain decimals
+     *              such as 807 or 12.75 are converted from their digits
+     *              directly, which is exact while the digits fit in a
+     *              double; anything else (exponents, very long numbers) is
+     *              handed to Double.parseDouble.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      value double
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private double parseDouble() throws IOException
+    {
+        token.setLength(0);
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean negative = false;
+        boolean inFraction = false;
+        boolean simple = true;
+
+        int c;
+        while (isNumberChar(c = peek()))
+        {
+            next();
+            token.append((char)c);
+            if (c >= '0' && c <= '9')
+            {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (inFraction)
+                    fractionDigits++;
+            }
+            else if (c == '.' && !inFraction)
+            {
+                inFraction = true;
+            }
+            else if (c == '-' && token.length() == 1)
+            {
+                negative = true;
+            }
+            else
+            {
+                simple = false; // Exponent or stray sign, let the JDK decide
+            }
+        }
+
+        if (token.length() == 0)
+            throw unexpected(c, "a weight");
+
+        if (simple && digits > 0 && digits <= 15)
+        {
+            double value = mantissa / POWERS_OF_TEN[fractionDigits];
+            return negative ? -value : value;
+        }
+
+        try
+        {
+            return Double.parseDouble(token.toString());
+        }
+        catch (NumberFormatException exp)
+        {
+            throw error("bad weight " + token);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isNumberChar()
+     * Description  Return true if c can be part of a weight.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       c int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static boolean isNumberChar(int c)
+    {
+        return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E'
+            || c == '+' || c == '-';
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       expect()
+     * Description  Skip blanks, consume the given separator and skip the
+     *              blanks after it.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       separator char
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void expect(char separator) throws IOException
+    {
+        int c = skipBlanks();
+        if (c != separator)
+            throw unexpected(c, "'" + separator + "'");
+
+        next();
+        skipBlanks();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       skipBlanks()
+     * Description  Consume spaces, tabs and carriage returns and return the
+     *              next byte without consuming it.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      character int
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int skipBlanks() throws IOException
+    {
+        int c;
+        while ((c = peek()) == ' ' || c == '\t' || c == '\r')
+            next();
+        return c;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       next()
+     * Description  Consume and return the next byte, or EOF.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      character int
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int next() throws IOException
+    {
+        if (!buffer.hasRemaining() && !fill())
+            return EOF;
+
+        return buffer.get() & 0xFF;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       peek()
+     * Description  Return the next byte without consuming it, or EOF.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      character int
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int peek() throws IOException
+    {
+        if (!buffer.hasRemaining() && !fill())
+            return EOF;
+
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       fill()
+     * Description  Refill the buffer from the channel. Returns false at the
+     *              end of the file.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+     * @throws      java.io.IOException if the file cannot be read
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private boolean fill() throws IOException
+    {
+        buffer.clear();
+        int read;
+        do
+        {
+            read = channel.read(buffer);
+        }
+        while (read == 0);
+        buffer.flip();
+        if (read < 0)
+            return false;
+
+        bytesRead += read;
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       error()
+     * Description  Build the exception reported for malformed input.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       message String
+     * @return      exception IllegalArgumentException
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private IllegalArgumentException error(String message)
+    {
+        return new IllegalArgumentException("Line " + line + ": " + message);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       unexpected()
+     * Description  Build the exception reported when c is not what the
+     *              format requires at this point.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       c int
+     * @param       wanted String
+     * @return      exception IllegalArgumentException
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private IllegalArgumentException unexpected(int c, String wanted)
+    {
+        if (c == EOF)
+            return error("expected " + wanted + " but the file ended");
+        if (c == '\n')
+            return error("expected " + wanted + " but the line ended");
+        return error("expected " + wanted + " at '" + (char)c + "'");
+    }
+}
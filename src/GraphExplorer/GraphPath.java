@@ -0,0 +1,167 @@
+package GraphExplorer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GraphPath.java
+ * Description  Result of a point-to-point shortest path query: the vertices
+ *              from source to target in order and the total cost. When the
+ *              target cannot be reached the vertex array is empty and the
+ *              cost is infinite. The number of vertices the search settled
+ *              is kept as well, to compare query algorithms.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class GraphPath
+{
+    private final int source;       // First vertex of the query
+    private final int target;       // Last vertex of the query
+    private final int[] vertices;   // Path from source to target, empty if none
+    private final double cost;      // Total weight of the path
+    private final int settled;      // Vertices settled by the search
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  GraphPath()
+     * Description  Construct a path.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @param       vertices int[]
+     * @param       cost double
+     * @param       settled int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath(int source, int target, int[] vertices, double cost, int settled)
+    {
+        this.source = source;
+        this.target = target;
+        this.vertices = vertices;
+        this.cost = cost;
+        this.settled = settled;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       fromParents()
+     * Description  Build the path to target by following a parent array
+     *              back to the source, in time proportional to its length.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @param       parent int[]
+     * @param       cost double
+     * @param       settled int
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static GraphPath fromParents(int source, int target, int[] parent,
+        double cost, int settled)
+    {
+        if (cost == Double.POSITIVE_INFINITY)
+            return new GraphPath(source, target, new int[0], cost, settled);
+
+        int length = 1;
+        for (int v = target; v != source; v = parent[v])
+            length++;
+
+        int[] vertices = new int[length];
+        int v = target;
+        for (int i = length - 1; i >= 0; i--)
+        {
+            vertices[i] = v;
+            v = parent[v];
+        }
+        return new GraphPath(source, target, vertices, cost, settled);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSource()
+     * Description  Return the source vertex of the query.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      source int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSource()
+    {
+        return source;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getTarget()
+     * Description  Return the target vertex of the query.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      target int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getTarget()
+    {
+        return target;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isFound()
+     * Description  Return true if the target can be reached from the source.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isFound()
+    {
+        return vertices.length > 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getVertices()
+     * Description  Return the vertices of the path from source to target.
+     *              The array is shared, not copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertices int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int[] getVertices()
+    {
+        return vertices;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getCost()
+     * Description  Return the total weight of the path, infinite if the
+     *              target cannot be reached.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      cost double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getCost()
+    {
+        return cost;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSettledCount()
+     * Description  Return the number of vertices the search settled.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      settled int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSettledCount()
+    {
+        return settled;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       toString()
+     * Description  Return the vertices separated by commas.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      String string
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public String toString()
+    {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < vertices.length; i++)
+        {
+            if (i > 0)
+                output.append(", ");
+            output.append(vertices[i]);
+        }
+        return output.toString();
+    }
+}
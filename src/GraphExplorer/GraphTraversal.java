@@ -0,0 +1,196 @@
+package GraphExplorer;
+
+import GraphExplorer.Graph.NeighborCursor;
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GraphTraversal.java
+ * Description  The depth-first and breadth-first searches shared by
+ *              AbstractGraph, CSRGraph and OffHeapGraph, and the Dijkstra
+ *              and A* search shared by WeightedGraph and OffHeapGraph. They
+ *              read the graph only through a NeighborCursor, so every
+ *              representation runs the same search and visits vertices in
+ *              the same order.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+final class GraphTraversal
+{
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  GraphTraversal()
+     * Description  Not used, the class only has static methods.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private GraphTraversal()
+    {
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       dfs()
+     * Description  Depth-first search from v over a graph of n vertices
+     *              into context, which is reset first. The recursion is
+     *              replaced by the context's stack of vertices and of the
+     *              position of the next edge to try at each, so a long chain
+     *              of vertices cannot overflow the call stack. Vertices are
+     *              visited in the same order as the recursive search.
+     *              Returns the number of vertices found.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       cursor NeighborCursor
+     * @param       n int
+     * @param       v int
+     * @param       context TraversalContext
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static int dfs(NeighborCursor cursor, int n, int v, TraversalContext context)
+    {
+        context.reset(n, v);
+        context.visit(v, -1);
+        context.push(v);
+
+        while (!context.isStackEmpty())
+        {
+            int u = context.peek();
+            cursor.reset(u, context.getCursor());
+            int w = -1;
+            while (w == -1 && cursor.next())
+            {
+                if (!context.isVisited(cursor.getTarget()))
+                    w = cursor.getTarget();
+            }
+
+            if (w == -1)
+            {
+                context.pop(); // All edges of u tried
+                continue;
+            }
+
+            context.setCursor(cursor.getPosition() + 1);
+            context.visit(w, u); // The parent of vertex w is u
+            context.push(w);
+        }
+
+        return context.getNumberOfVerticesFound();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs()
+     * Description  Breadth-first search from v over a graph of n vertices
+     *              into context, which is reset first, stopping once target
+     *              is visited, or searching everything reachable if target
+     *              is -1. Returns the number of vertices found.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       cursor NeighborCursor
+     * @param       n int
+     * @param       v int
+     * @param       target int
+     * @param       context TraversalContext
+     * @return      found int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static int bfs(NeighborCursor cursor, int n, int v, int target,
+        TraversalContext context)
+    {
+        context.reset(n, v);
+        context.visit(v, -1); // Mark it visited
+        context.offer(v); // Enqueue v
+
+        while (!context.isQueueEmpty()
+            && (target == -1 || !context.isVisited(target)))
+        {
+            int u = context.poll(); // Dequeue to u
+            cursor.reset(u);
+            while (cursor.next())
+            {
+                int w = cursor.getTarget();
+                if (context.visit(w, u)) // The parent of w is u
+                    context.offer(w); // Enqueue w
+            }
+        }
+
+        return context.getNumberOfVerticesFound();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       dijkstra()
+     * Description  Dijkstra's algorithm from source over a graph of n
+     *              vertices filling cost and parent. The next vertex to
+     *              settle is taken from an IndexedMinHeap with decrease-key
+     *              and settled vertices are marked in a boolean array, so a
+     *              search costs O((V + E) log V). Stops once target is
+     *              settled, or runs to completion when target is -1. With a
+     *              heuristic the heap key is cost plus the estimate to
+     *              target, which is A*. Vertices that are not reached keep
+     *              an infinite cost and a parent of -1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       cursor NeighborCursor
+     * @param       n int
+     * @param       source int
+     * @param       target int
+     * @param       heuristic Heuristic, null for none
+     * @param       cost double[]
+     * @param       parent int[]
+     * @param       order int[], receives the settle order, may be null
+     * @return      settled int, number of vertices settled
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static int dijkstra(NeighborCursor cursor, int n, int source, int target,
+        Heuristic heuristic, double[] cost, int[] parent, int[] order)
+    {
+        Arrays.fill(cost, Double.POSITIVE_INFINITY); // Initial cost set to infinity
+        cost[source] = 0; // Cost of source is 0
+        Arrays.fill(parent, -1); // The parent of source is set to -1
+
+        boolean[] isSettled = new boolean[n];
+        int settled = 0;
+
+        IndexedMinHeap queue = new IndexedMinHeap(n);
+        queue.insertOrDecrease(source, 0);
+
+        while (!queue.isEmpty())
+        {
+            int u = queue.poll();
+            if (order != null)
+                order[settled] = u;
+            isSettled[u] = true;
+            settled++;
+            if (u == target)
+                break;
+
+            cursor.reset(u);
+            while (cursor.next())
+            {
+                int w = cursor.getTarget();
+                double newCost = cost[u] + cursor.getWeight();
+                if (!isSettled[w] && cost[w] > newCost)
+                {
+                    cost[w] = newCost;
+                    parent[w] = u;
+                    queue.insertOrDecrease(w, heuristic == null ? newCost
+                        : newCost + heuristic.estimate(w, target));
+                }
+            }
+        }
+        return settled;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       copyParents()
+     * Description  Return the parent of every vertex of a graph of n
+     *              vertices in the traversal in context, -1 for the root and
+     *              the vertices it did not visit.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       context TraversalContext
+     * @param       n int
+     * @return      parent int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static int[] copyParents(TraversalContext context, int n)
+    {
+        int[] parent = new int[n];
+        for (int u = 0; u < n; u++)
+            parent[u] = context.getParent(u);
+        return parent;
+    }
+}
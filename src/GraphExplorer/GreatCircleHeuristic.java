@@ -0,0 +1,68 @@
+package GraphExplorer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        GreatCircleHeuristic.java
+ * Description  A* heuristic from the latitude and longitude of each vertex.
+ *              The estimate is the great-circle distance in miles by the
+ *              haversine formula, which no road between two cities can
+ *              beat, so it is a valid lower bound whenever the edge weights
+ *              are road distances in miles.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class GreatCircleHeuristic implements Heuristic
+{
+    /** Mean radius of the Earth in miles */
+    public static final double EARTH_RADIUS_MILES = 3958.8;
+
+    private final double[] latitude;    // Radians
+    private final double[] longitude;   // Radians
+    private final double[] cosLatitude; // Cached for the haversine formula
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  GreatCircleHeuristic()
+     * Description  Construct from coordinates in degrees, one pair for each
+     *              vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       latitudes double[]
+     * @param       longitudes double[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GreatCircleHeuristic(double[] latitudes, double[] longitudes)
+    {
+        if (latitudes.length != longitudes.length)
+            throw new IllegalArgumentException("Expected " + latitudes.length
+                + " longitudes, found " + longitudes.length);
+
+        int n = latitudes.length;
+        latitude = new double[n];
+        longitude = new double[n];
+        cosLatitude = new double[n];
+        for (int v = 0; v < n; v++)
+        {
+            latitude[v] = Math.toRadians(latitudes[v]);
+            longitude[v] = Math.toRadians(longitudes[v]);
+            cosLatitude[v] = Math.cos(latitude[v]);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       estimate()
+     * Description  Return the great-circle distance in miles from v to
+     *              target.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       target int
+     * @return      miles double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public double estimate(int v, int target)
+    {
+        double sinLatitude = Math.sin((latitude[target] - latitude[v]) / 2);
+        double sinLongitude = Math.sin((longitude[target] - longitude[v]) / 2);
+        double a = sinLatitude * sinLatitude
+            + cosLatitude[v] * cosLatitude[target] * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_MILES * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,30 @@
+package GraphExplorer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        Heuristic.java
+ * Description  Estimate of the remaining distance used by the A* search in
+ *              WeightedGraph.shortestPath. The estimate must never be larger
+ *              than the true shortest distance, and for any edge (u, v, w)
+ *              estimate(u, t) must be at most w + estimate(v, t), so that
+ *              every vertex is settled once with its final cost. ZERO meets
+ *              both and turns A* back into Dijkstra's algorithm.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+@FunctionalInterface
+public interface Heuristic
+{
+    /** No estimate, A* expands vertices in the same order as Dijkstra */
+    Heuristic ZERO = (v, target) -> 0;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       estimate()
+     * Description  Return a lower bound on the distance from v to target.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       target int
+     * @return      lower bound double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    double estimate(int v, int target);
+}
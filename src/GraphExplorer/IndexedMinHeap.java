@@ -0,0 +1,217 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        IndexedMinHeap.java
+ * Description  Binary min-heap over the vertex indices 0..capacity-1 keyed by
+ *              double priorities. A position array maps every vertex to its
+ *              slot in the heap so that contains and decreaseKey run without
+ *              searching, which is what Dijkstra's and Prim's algorithms need.
+ *              Keys and slots are held in primitive arrays, nothing is boxed.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class IndexedMinHeap
+{
+    private final int[] heap;       // heap[i] is the vertex stored in slot i
+    private final int[] position;   // position[v] is the slot of v, -1 if absent
+    private final double[] key;     // key[v] is the priority of vertex v
+    private int size;               // Number of vertices in the heap
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  IndexedMinHeap()
+     * Description  Construct an empty heap for vertices 0..capacity-1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       capacity int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public IndexedMinHeap(int capacity)
+    {
+        heap = new int[capacity];
+        position = new int[capacity];
+        key = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isEmpty()
+     * Description  Return true if no vertex is waiting in the heap.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       size()
+     * Description  Return the number of vertices in the heap.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int size()
+    {
+        return size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       contains()
+     * Description  Return true if vertex v is currently in the heap.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean contains(int v)
+    {
+        return position[v] != -1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       peekKey()
+     * Description  Return the smallest priority in the heap.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      key double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double peekKey()
+    {
+        if (size == 0)
+            throw new IllegalStateException("Heap is empty");
+
+        return key[heap[0]];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       insertOrDecrease()
+     * Description  Insert vertex v with priority k, or lower the priority of
+     *              v to k if it is already in the heap with a larger one.
+     *              Returns false if v was present with a priority <= k.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       k double
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean insertOrDecrease(int v, double k)
+    {
+        int slot = position[v];
+        if (slot == -1)
+        {
+            slot = size++;
+            heap[slot] = v;
+            position[v] = slot;
+        }
+        else if (k >= key[v])
+        {
+            return false;
+        }
+
+        key[v] = k;
+        siftUp(slot);
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       poll()
+     * Description  Remove and return the vertex with the smallest priority.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int poll()
+    {
+        if (size == 0)
+            throw new IllegalStateException("Heap is empty");
+
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0)
+        {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       clear()
+     * Description  Remove every vertex still in the heap. Runs in time
+     *              proportional to the current size so a heap can be reused
+     *              across many searches on the same graph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+            position[heap[i]] = -1;
+        size = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       siftUp()
+     * Description  Move the vertex in the given slot towards the root until
+     *              its parent has a smaller or equal priority.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void siftUp(int slot)
+    {
+        int v = heap[slot];
+        double k = key[v];
+        while (slot > 0)
+        {
+            int parentSlot = (slot - 1) >>> 1;
+            int p = heap[parentSlot];
+            if (key[p] <= k)
+                break;
+
+            heap[slot] = p;
+            position[p] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = v;
+        position[v] = slot;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       siftDown()
+     * Description  Move the vertex in the given slot towards the leaves until
+     *              both children have a larger or equal priority.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void siftDown(int slot)
+    {
+        int v = heap[slot];
+        double k = key[v];
+        int half = size >>> 1;
+        while (slot < half)
+        {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && key[heap[right]] < key[heap[child]])
+                child = right;
+
+            int c = heap[child];
+            if (k <= key[c])
+                break;
+
+            heap[slot] = c;
+            position[c] = slot;
+            slot = child;
+        }
+        heap[slot] = v;
+        position[v] = slot;
+    }
+}
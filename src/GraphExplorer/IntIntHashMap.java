@@ -0,0 +1,239 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        IntIntHashMap.java
+ * Description  Hash map from int keys to int values in two primitive arrays
+ *              with linear probing, so neither keys nor values are boxed.
+ *              Key 0 marks a free slot, so the entry for key 0 is kept
+ *              outside the table. The table doubles when it is half full
+ *              and entries cannot be removed, only cleared all at once.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class IntIntHashMap
+{
+    private int[] keys;             // 0 in a free slot
+    private int[] values;
+    private int mask;               // Table length - 1, the length a power of 2
+    private int size;               // Entries, the one for key 0 included
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  IntIntHashMap()
+     * Description  Construct an empty map.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public IntIntHashMap()
+    {
+        this(16);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  IntIntHashMap()-overloaded constructor
+     * Description  Construct an empty map that holds expected entries
+     *              without growing.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       expected int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public IntIntHashMap(int expected)
+    {
+        int capacity = Integer.highestOneBit(Math.max(2 * expected - 1, 15)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       get()
+     * Description  Return the value of key, or -1 if there is none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @return      value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int get(int key)
+    {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : -1;
+
+        for (int slot = slot(key); ; slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key)
+                return values[slot];
+            if (keys[slot] == 0)
+                return -1;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       containsKey()
+     * Description  Return true if key has a value.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean containsKey(int key)
+    {
+        if (key == 0)
+            return hasZeroKey;
+
+        for (int slot = slot(key); keys[slot] != 0; slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key)
+                return true;
+        }
+        return false;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       put()
+     * Description  Set the value of key. Return the old value, or -1 if
+     *              there was none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @param       value int
+     * @return      old value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int put(int key, int value)
+    {
+        return insert(key, value, true);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       putIfAbsent()
+     * Description  Set the value of key unless it has one. Return the
+     *              value it had, or -1 if there was none and it was set.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @param       value int
+     * @return      old value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int putIfAbsent(int key, int value)
+    {
+        return insert(key, value, false);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       insert()
+     * Description  Find or add the slot of key and store value in it if the
+     *              key is new or replace is true. Return the old value, or
+     *              -1 if the key was new.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @param       value int
+     * @param       replace boolean
+     * @return      old value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int insert(int key, int value, boolean replace)
+    {
+        if (key == 0)
+        {
+            int old = hasZeroKey ? zeroValue : -1;
+            if (!hasZeroKey)
+            {
+                hasZeroKey = true;
+                size++;
+            }
+            else if (!replace)
+                return old;
+            zeroValue = value;
+            return old;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != 0)
+        {
+            if (keys[slot] == key)
+            {
+                int old = values[slot];
+                if (replace)
+                    values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) >>> 1)
+            rehash(2 * (mask + 1));
+        return -1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       size()
+     * Description  Return the number of entries.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int size()
+    {
+        return size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       clear()
+     * Description  Remove every entry and keep the table.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       slot()
+     * Description  Return the home slot of key. Multiplying by the golden
+     *              ratio spreads consecutive keys over the whole table.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key int
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int slot(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       rehash()
+     * Description  Move every entry into a table of capacity slots.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       capacity int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void rehash(int capacity)
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] != 0)
+            {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0)
+                    slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
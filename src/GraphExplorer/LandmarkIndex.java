@@ -0,0 +1,297 @@
+package GraphExplorer;
+
+import java.util.List;
+import java.util.Random;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        LandmarkIndex.java
+ * Description  ALT heuristic (A*, landmarks, triangle inequality) for graphs
+ *              without coordinates. The distance from a few landmarks to
+ *              every vertex is computed once with getShortestPath. For any
+ *              landmark L, |d(L, t) - d(L, v)| is a lower bound on the
+ *              distance from v to t, and the largest bound over all
+ *              landmarks is the estimate handed to A*. The graph must be
+ *              symmetric, as every edge file is loaded.
+ *
+ *              Distances are stored as floats, vertex by vertex, so the
+ *              landmarks of one vertex share a cache line. Each bound is
+ *              lowered by the float rounding error so that it stays a
+ *              lower bound.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class LandmarkIndex implements Heuristic
+{
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Enum         Selection
+     * Description  How landmarks are chosen. RANDOM picks vertices at
+     *              random. FARTHEST picks each landmark as far as possible
+     *              from the ones before it. AVOID grows a shortest path
+     *              tree from a random root and descends into the subtree
+     *              whose distances the current landmarks estimate worst,
+     *              taking the leaf it ends at.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public enum Selection
+    {
+        RANDOM,
+        FARTHEST,
+        AVOID
+    }
+
+    private final int size;             // Number of vertices
+    private final int[] landmarks;
+    private final float[] distances;    // distances[v * k + i] is d(landmark i, v)
+    private int count;                  // Landmarks whose distances are filled in
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  LandmarkIndex()
+     * Description  Choose numberOfLandmarks landmarks of graph and compute
+     *              their distance tables. The tables must fit one array,
+     *              so size times numberOfLandmarks is at most about 2^31.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       numberOfLandmarks int
+     * @param       selection Selection
+     * @param       seed long, for the random choices
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public LandmarkIndex(WeightedGraph<?> graph, int numberOfLandmarks,
+        Selection selection, long seed)
+    {
+        size = graph.getSize();
+        if (numberOfLandmarks < 1 || numberOfLandmarks > size)
+            throw new IllegalArgumentException("Cannot choose " + numberOfLandmarks
+                + " landmarks from " + size + " vertices");
+
+        // One table of size * numberOfLandmarks floats, so every index
+        // v * k + i stays below the largest array length
+        long tableLength = (long)size * numberOfLandmarks;
+        if (tableLength > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Cannot index " + size + " vertices with "
+                + numberOfLandmarks + " landmarks: " + tableLength + " distances");
+
+        landmarks = new int[numberOfLandmarks];
+        distances = new float[(int)tableLength];
+        Random random = new Random(seed);
+        boolean[] isLandmark = new boolean[size];
+
+        switch (selection)
+        {
+            case RANDOM:
+                while (count < numberOfLandmarks)
+                {
+                    int v = random.nextInt(size);
+                    if (!isLandmark[v])
+                    {
+                        isLandmark[v] = true;
+                        addLandmark(graph, v);
+                    }
+                }
+                break;
+            case FARTHEST:
+                selectFarthest(graph, random, isLandmark);
+                break;
+            default:
+                selectAvoid(graph, random, isLandmark);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addLandmark()
+     * Description  Make v the next landmark and fill in its distances.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       v int
+     * @return      tree ShortestPathTree from v
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private WeightedGraph<?>.ShortestPathTree addLandmark(WeightedGraph<?> graph, int v)
+    {
+        WeightedGraph<?>.ShortestPathTree tree = graph.getShortestPath(v);
+        int k = landmarks.length;
+        for (int u = 0; u < size; u++)
+            distances[u * k + count] = (float)tree.getCost(u);
+        landmarks[count++] = v;
+        return tree;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       selectFarthest()
+     * Description  Farthest selection: the first landmark is the vertex
+     *              farthest from a random start, and every next one is the
+     *              vertex whose distance to its nearest landmark is largest.
+     *              Unreachable vertices count as farthest, so other
+     *              components get a landmark too.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       random Random
+     * @param       isLandmark boolean[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void selectFarthest(WeightedGraph<?> graph, Random random, boolean[] isLandmark)
+    {
+        double[] nearest = new double[size]; // Distance to the nearest landmark
+        WeightedGraph<?>.ShortestPathTree tree = graph.getShortestPath(random.nextInt(size));
+        for (int v = 0; v < size; v++)
+            nearest[v] = tree.getCost(v);
+
+        while (count < landmarks.length)
+        {
+            int farthest = -1;
+            for (int v = 0; v < size; v++)
+            {
+                if (!isLandmark[v] && (farthest == -1 || nearest[v] > nearest[farthest]))
+                    farthest = v;
+            }
+            isLandmark[farthest] = true;
+            tree = addLandmark(graph, farthest);
+            for (int v = 0; v < size; v++)
+                nearest[v] = count == 1 ? tree.getCost(v) : Math.min(nearest[v], tree.getCost(v));
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       selectAvoid()
+     * Description  Avoid selection. For a random root r, every vertex v of
+     *              the shortest path tree from r is weighted by how badly
+     *              the current landmarks bound it, d(r, v) - estimate(r, v).
+     *              A subtree's size is the sum of its weights, or zero if it
+     *              already holds a landmark. Starting at r, the walk moves to
+     *              the child with the largest size until it reaches a leaf,
+     *              which becomes the next landmark.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph WeightedGraph
+     * @param       random Random
+     * @param       isLandmark boolean[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void selectAvoid(WeightedGraph<?> graph, Random random, boolean[] isLandmark)
+    {
+        double[] subtree = new double[size];
+        boolean[] blocked = new boolean[size];  // Subtree holds a landmark
+        int[] firstChild = new int[size];
+        int[] nextSibling = new int[size];
+
+        while (count < landmarks.length)
+        {
+            int root = random.nextInt(size);
+            WeightedGraph<?>.ShortestPathTree tree = graph.getShortestPath(root);
+            List<Integer> order = tree.getSearchOrder();
+
+            for (int v : order)
+            {
+                subtree[v] = tree.getCost(v) - estimate(root, v);
+                blocked[v] = isLandmark[v];
+                firstChild[v] = -1;
+            }
+            // Children are summed into parents, deepest first
+            for (int i = order.size() - 1; i >= 0; i--)
+            {
+                int v = order.get(i);
+                if (blocked[v])
+                    subtree[v] = 0;
+                int parent = tree.getParent(v);
+                if (parent != -1)
+                {
+                    nextSibling[v] = firstChild[parent];
+                    firstChild[parent] = v;
+                    if (blocked[v])
+                        blocked[parent] = true;
+                    else
+                        subtree[parent] += subtree[v];
+                }
+            }
+
+            int v = root;
+            while (true)
+            {
+                int best = -1;
+                for (int c = firstChild[v]; c != -1; c = nextSibling[c])
+                {
+                    if (subtree[c] > 0 && (best == -1 || subtree[c] > subtree[best]))
+                        best = c;
+                }
+                if (best == -1)
+                    break;
+                v = best;
+            }
+
+            while (isLandmark[v]) // Nothing left to avoid from this root
+                v = random.nextInt(size);
+            isLandmark[v] = true;
+            addLandmark(graph, v);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       estimate()
+     * Description  Return the largest landmark lower bound on the distance
+     *              from v to target, less the float rounding of the two
+     *              distances it is computed from. Landmarks that cannot reach
+     *              both vertices are skipped.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       target int
+     * @return      lower bound double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public double estimate(int v, int target)
+    {
+        int k = landmarks.length;
+        int a = v * k;
+        int b = target * k;
+        double bound = 0;
+        for (int i = 0; i < count; i++)
+        {
+            float fromV = distances[a + i];
+            float fromTarget = distances[b + i];
+            if (fromV == Float.POSITIVE_INFINITY || fromTarget == Float.POSITIVE_INFINITY)
+                continue;
+            double difference = Math.abs((double)fromTarget - fromV)
+                - Math.ulp(fromTarget) - Math.ulp(fromV);
+            if (difference > bound)
+                bound = difference;
+        }
+        return bound;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfLandmarks()
+     * Description  Return the number of landmarks.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      number of landmarks int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfLandmarks()
+    {
+        return landmarks.length;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getLandmark()
+     * Description  Return the vertex of landmark i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getLandmark(int i)
+    {
+        return landmarks[i];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the size of the distance tables in bytes.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 4L * distances.length + 4L * landmarks.length;
+    }
+}
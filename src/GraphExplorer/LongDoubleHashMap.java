@@ -0,0 +1,254 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        LongDoubleHashMap.java
+ * Description  Hash map from long keys to double values in two primitive
+ *              arrays with linear probing, so neither is boxed. Key 0
+ *              marks a free slot, so the entry for key 0 is kept outside
+ *              the table. The table doubles when it is half full and
+ *              entries cannot be removed, only cleared all at once. Keys
+ *              are usually edges packed with pack.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class LongDoubleHashMap
+{
+    private long[] keys;            // 0 in a free slot
+    private double[] values;
+    private int mask;               // Table length - 1, the length a power of 2
+    private int size;               // Entries, the one for key 0 included
+    private boolean hasZeroKey;
+    private double zeroValue;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  LongDoubleHashMap()
+     * Description  Construct an empty map.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public LongDoubleHashMap()
+    {
+        this(16);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  LongDoubleHashMap()-overloaded constructor
+     * Description  Construct an empty map that holds expected entries
+     *              without growing.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       expected int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public LongDoubleHashMap(int expected)
+    {
+        int capacity = Integer.highestOneBit(Math.max(2 * expected - 1, 15)) << 1;
+        keys = new long[capacity];
+        values = new double[capacity];
+        mask = capacity - 1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       pack()
+     * Description  Return the key of the edge (u, v): u in the high and v
+     *              in the low 32 bits.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      key long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public static long pack(int u, int v)
+    {
+        return ((long)u << 32) | (v & 0xFFFFFFFFL);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getOrDefault()
+     * Description  Return the value of key, or defaultValue if there is
+     *              none.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @param       defaultValue double
+     * @return      value double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getOrDefault(long key, double defaultValue)
+    {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : defaultValue;
+
+        for (int slot = slot(key); ; slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key)
+                return values[slot];
+            if (keys[slot] == 0)
+                return defaultValue;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       containsKey()
+     * Description  Return true if key has a value.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean containsKey(long key)
+    {
+        if (key == 0)
+            return hasZeroKey;
+
+        for (int slot = slot(key); keys[slot] != 0; slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key)
+                return true;
+        }
+        return false;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       put()
+     * Description  Set the value of key.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @param       value double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void put(long key, double value)
+    {
+        insert(key, value, true);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       putIfAbsent()
+     * Description  Set the value of key unless it has one. Return true if
+     *              it was set.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @param       value double
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean putIfAbsent(long key, double value)
+    {
+        return insert(key, value, false);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       insert()
+     * Description  Find or add the slot of key and store value in it if the
+     *              key is new or replace is true. Return true if the key
+     *              was new.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @param       value double
+     * @param       replace boolean
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private boolean insert(long key, double value, boolean replace)
+    {
+        if (key == 0)
+        {
+            boolean added = !hasZeroKey;
+            if (added || replace)
+                zeroValue = value;
+            if (added)
+            {
+                hasZeroKey = true;
+                size++;
+            }
+            return added;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != 0)
+        {
+            if (keys[slot] == key)
+            {
+                if (replace)
+                    values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) >>> 1)
+            rehash(2 * (mask + 1));
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       size()
+     * Description  Return the number of entries.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int size()
+    {
+        return size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       clear()
+     * Description  Remove every entry and keep the table.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       slot()
+     * Description  Return the home slot of key. Multiplying by the golden
+     *              ratio mixes both halves of a packed edge into the bits
+     *              that pick the slot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       key long
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int slot(long key)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32)) & mask;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       rehash()
+     * Description  Move every entry into a table of capacity slots.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       capacity int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void rehash(int capacity)
+    {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        keys = new long[capacity];
+        values = new double[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] != 0)
+            {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0)
+                    slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,907 @@
+package GraphExplorer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        OffHeapGraph.java
+ * Description  Read-only weighted graph in compressed sparse row layout
+ *              kept in direct ByteBuffers, outside the Java heap. As in
+ *              CSRGraph the edges leaving vertex u are the slots offsets[u]
+ *              to offsets[u + 1] - 1 of the targets and weights columns,
+ *              4 bytes per vertex and 12 bytes per edge, but the garbage
+ *              collector never scans or copies them, so a graph of several
+ *              gigabytes leaves the heap and the pauses as they were. A
+ *              buffer holds at most 2 GB, so every column is split into
+ *              pages of PAGE_SIZE bytes. Only the vertex objects stay on
+ *              the heap, and none at all for vertices 0, 1, ... . The
+ *              Graph reads and searches work as on a WeightedGraph; the
+ *              methods that change the graph throw
+ *              UnsupportedOperationException. The graph is never changed
+ *              after construction, so any number of threads may read it.
+ *
+ *              There is no close: the columns are released only when the
+ *              garbage collector finds the graph unreachable, which may
+ *              take long since the graph holds so little heap. Drop every
+ *              reference to a graph that is no longer needed. Direct
+ *              memory is limited by -XX:MaxDirectMemorySize, by default the
+ *              maximum heap size; an allocation that would pass the limit
+ *              first runs System.gc, so it fails with OutOfMemoryError only
+ *              if the graphs still reachable hold it all, or if
+ *              -XX:+DisableExplicitGC is set. A graph opened by GraphFile
+ *              keeps its file mapped, and on some systems locked, in the
+ *              same way until it is collected.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ * @param       <V> generic type
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class OffHeapGraph<V> implements Graph<V>
+{
+    private static final int PAGE_BITS = 30;
+    static final long PAGE_SIZE = 1L << PAGE_BITS;  // Also the page of GraphFile
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int numberOfVertices;
+    private final int numberOfEdges;
+    private final ByteBuffer[] offsets; // int per vertex, plus one at the end
+    private final ByteBuffer[] targets; // int per edge
+    private final ByteBuffer[] weights; // double per edge
+    private final List<V> vertices;
+    private volatile HashMap<V, Integer> vertexIndex; // Built by the first getIndex
+    private final AbstractGraph<V> treeOwner;      // Encloses the trees of dfs/bfs
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  OffHeapGraph()
+     * Description  Copy any graph, keeping its vertices and the order of
+     *              every adjacency list. Edges of a graph without weights
+     *              get weight 1. Vertices that are just 0, 1, ... are not
+     *              copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph Graph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public OffHeapGraph(Graph<V> graph)
+    {
+        numberOfVertices = graph.getSize();
+        long m = 0;
+        for (int u = 0; u < numberOfVertices; u++)
+            m += graph.getDegree(u);
+        if (m > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many edges: " + m);
+        numberOfEdges = (int)m;
+        offsets = allocate(4L * (numberOfVertices + 1));
+        targets = allocate(4L * numberOfEdges);
+        weights = allocate(8L * numberOfEdges);
+        vertices = isIndexList(graph.getVertices()) ? null
+            : Collections.unmodifiableList(new ArrayList<>(graph.getVertices()));
+
+        NeighborCursor cursor = graph.createNeighborCursor();
+        int edge = 0;
+        for (int u = 0; u < numberOfVertices; u++)
+        {
+            putInt(offsets, u, edge);
+            cursor.reset(u);
+            while (cursor.next())
+            {
+                putInt(targets, edge, cursor.getTarget());
+                putDouble(weights, edge, cursor.getWeight());
+                edge++;
+            }
+        }
+        putInt(offsets, numberOfVertices, edge);
+        treeOwner = createTreeOwner();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  OffHeapGraph()-overloaded constructor
+     * Description  Build a graph on vertices 0..numberOfVertices-1 straight
+     *              from an EdgeStore, so the edges are never on the heap as
+     *              objects. The offsets column counts the degrees, then
+     *              serves as the insertion cursor of each vertex and is
+     *              shifted back, so no heap array of the vertex count is
+     *              needed either. Edges leaving the same vertex keep their
+     *              store order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges EdgeStore
+     * @param       numberOfVertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public OffHeapGraph(EdgeStore edges, int numberOfVertices)
+    {
+        this.numberOfVertices = numberOfVertices;
+        numberOfEdges = edges.size();
+        offsets = allocate(4L * (numberOfVertices + 1));
+        targets = allocate(4L * numberOfEdges);
+        weights = allocate(8L * numberOfEdges);
+        vertices = null;
+
+        // Degree of u in offsets[u + 1], then the start of u in offsets[u]
+        for (int i = 0; i < numberOfEdges; i++)
+        {
+            int u = edges.getSource(i);
+            int v = edges.getTarget(i);
+            if (u < 0 || u >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + u);
+            if (v < 0 || v >= numberOfVertices)
+                throw new IllegalArgumentException("No such index: " + v);
+            putInt(offsets, u + 1, getInt(offsets, u + 1) + 1);
+        }
+        for (int u = 0; u < numberOfVertices; u++)
+            putInt(offsets, u + 1, getInt(offsets, u + 1) + getInt(offsets, u));
+
+        // Place each edge at the cursor of its source, which moves the
+        // cursor of u to the start of u + 1
+        for (int i = 0; i < numberOfEdges; i++)
+        {
+            int u = edges.getSource(i);
+            int slot = getInt(offsets, u);
+            putInt(offsets, u, slot + 1);
+            putInt(targets, slot, edges.getTarget(i));
+            putDouble(weights, slot, edges.getWeight(i));
+        }
+        for (int u = numberOfVertices; u > 0; u--)
+            putInt(offsets, u, getInt(offsets, u - 1));
+        putInt(offsets, 0, 0);
+        treeOwner = createTreeOwner();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  OffHeapGraph()-overloaded constructor
+     * Description  Wrap columns that are already filled, such as the pages
+     *              GraphFile maps from a file. Page i of a column must hold
+     *              its bytes from i * PAGE_SIZE on, in little-endian order.
+     *              Null vertices stand for 0..numberOfVertices-1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       numberOfVertices int
+     * @param       numberOfEdges int
+     * @param       offsets ByteBuffer[]
+     * @param       targets ByteBuffer[]
+     * @param       weights ByteBuffer[]
+     * @param       vertices List V
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    OffHeapGraph(int numberOfVertices, int numberOfEdges, ByteBuffer[] offsets,
+        ByteBuffer[] targets, ByteBuffer[] weights, List<V> vertices)
+    {
+        this.numberOfVertices = numberOfVertices;
+        this.numberOfEdges = numberOfEdges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.vertices = vertices;
+        treeOwner = createTreeOwner();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfEdges()
+     * Description  Return the number of directed edges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfEdges()
+    {
+        return numberOfEdges;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getFirstEdge()
+     * Description  Return the slot of the first edge leaving vertex u.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getFirstEdge(int u)
+    {
+        return getInt(offsets, u);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEndEdge()
+     * Description  Return one past the slot of the last edge leaving u.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @return      slot int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getEndEdge(int u)
+    {
+        return getInt(offsets, u + 1);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getTarget()
+     * Description  Return the end vertex of the edge in the given slot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edge int
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getTarget(int edge)
+    {
+        return getInt(targets, edge);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeight()
+     * Description  Return the weight of the edge in the given slot.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edge int
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public double getWeight(int edge)
+    {
+        return getDouble(weights, edge);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getMemoryBytes()
+     * Description  Return the number of bytes held outside the heap.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      bytes long
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public long getMemoryBytes()
+    {
+        return 4L * (numberOfVertices + 1) + 12L * numberOfEdges;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSize()
+     * Description  Return the number of vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public int getSize()
+    {
+        return numberOfVertices;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getVertices()
+     * Description  Return the vertices as a read-only list. Vertices 0, 1,
+     *              ... are a view that stores nothing.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      list List V
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<V> getVertices()
+    {
+        return vertices != null ? vertices
+            : (List<V>)new IndexList(numberOfVertices);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getVertex()
+     * Description  Return the object for the specified vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @return      vertex V
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getVertex(int index)
+    {
+        if (vertices != null)
+            return vertices.get(index);
+        if (index < 0 || index >= numberOfVertices)
+            throw new IndexOutOfBoundsException("No such index: " + index);
+        return (V)Integer.valueOf(index);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getIndex()
+     * Description  Return the index of the specified vertex object, or -1.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v V
+     * @return      index int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public int getIndex(V v)
+    {
+        if (vertices == null)
+        {
+            int index = v instanceof Integer ? (Integer)v : -1;
+            return index >= 0 && index < numberOfVertices ? index : -1;
+        }
+
+        HashMap<V, Integer> index = vertexIndex;
+        if (index == null)
+            index = createVertexIndex();
+        Integer i = index.get(v);
+        return i == null ? -1 : i;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNeighbors()
+     * Description  Return the neighbors of the specified vertex in a new
+     *              list.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @return      neighbors List Integer
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public List<Integer> getNeighbors(int index)
+    {
+        List<Integer> result = new ArrayList<>(getDegree(index));
+        for (int i = getFirstEdge(index); i < getEndEdge(index); i++)
+            result.add(getTarget(i));
+        return result;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachNeighbor()
+     * Description  Pass the index of every neighbor of the vertex to action.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @param       action IntConsumer
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void forEachNeighbor(int index, IntConsumer action)
+    {
+        int end = getEndEdge(index);
+        for (int i = getFirstEdge(index); i < end; i++)
+            action.accept(getTarget(i));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       forEachEdge()
+     * Description  Pass every edge leaving the vertex to visitor.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       index int
+     * @param       visitor EdgeVisitor
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void forEachEdge(int index, EdgeVisitor visitor)
+    {
+        int end = getEndEdge(index);
+        for (int i = getFirstEdge(index); i < end; i++)
+            visitor.visit(index, getTarget(i), getWeight(i));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createNeighborCursor()
+     * Description  Return a new cursor over the edge slots of a vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      cursor NeighborCursor
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public NeighborCursor createNeighborCursor()
+    {
+        return new SlotNeighborCursor();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDegree()
+     * Description  Return the number of edges leaving vertex v.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      degree int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public int getDegree(int v)
+    {
+        return getEndEdge(v) - getFirstEdge(v);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       hasEdge()
+     * Description  Return true if the graph has an edge from u to v, by a
+     *              scan of the edges of u. False if either index is out of
+     *              range.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public boolean hasEdge(int u, int v)
+    {
+        if (u < 0 || u >= numberOfVertices || v < 0 || v >= numberOfVertices)
+            return false;
+
+        int end = getEndEdge(u);
+        for (int i = getFirstEdge(u); i < end; i++)
+        {
+            if (getTarget(i) == v)
+                return true;
+        }
+        return false;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       printEdges()
+     * Description  Print the edges with their weights, as
+     *              WeightedGraph.printWeightedEdges does.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void printEdges()
+    {
+        System.out.print(displayEdges());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       displayEdges()
+     * Description  Return the edges with their weights as a String in the
+     *              format of WeightedGraph.displayEdges.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      output String
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public String displayEdges()
+    {
+        StringBuilder output = new StringBuilder();
+        for (int u = 0; u < numberOfVertices; u++)
+        {
+            output.append(getVertex(u) + " (" + u + "): ");
+            for (int i = getFirstEdge(u); i < getEndEdge(u); i++)
+            {
+                output.append("(" + u + ", " + getTarget(i) + ", " + getWeight(i)
+                    + ") ");
+            }
+            output.append('\n');
+        }
+        return output.toString();
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       clear()
+     * Description  Not supported, the graph is read-only.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public void clear()
+    {
+        throw new UnsupportedOperationException("Off-heap graph is read-only");
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addVertex()
+     * Description  Not supported, the graph is read-only.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       vertex V
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("Off-heap graph is read-only");
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       addEdge()
+     * Description  Not supported, the graph is read-only.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public boolean addEdge(int u, int v)
+    {
+        throw new UnsupportedOperationException("Off-heap graph is read-only");
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       dfs()
+     * Description  Depth-first search from v by GraphTraversal.dfs, visiting
+     *              vertices in the same order as AbstractGraph.dfs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public AbstractGraph<V>.Tree dfs(int v)
+    {
+        TraversalContext context = new TraversalContext(numberOfVertices);
+        int found = GraphTraversal.dfs(createNeighborCursor(), numberOfVertices, v, context);
+        return toTree(v, found, context);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs()
+     * Description  Breadth-first search from v by GraphTraversal.bfs.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    public AbstractGraph<V>.Tree bfs(int v)
+    {
+        TraversalContext context = new TraversalContext(numberOfVertices);
+        int found = GraphTraversal.bfs(createNeighborCursor(), numberOfVertices, v, -1,
+            context);
+        return toTree(v, found, context);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Find the shortest path from source to target with A*
+     *              by GraphTraversal.dijkstra, as WeightedGraph.shortestPath
+     *              does. Heuristic.ZERO or null runs plain Dijkstra.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @param       heuristic Heuristic
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath shortestPath(int source, int target, Heuristic heuristic)
+    {
+        if (source < 0 || source >= numberOfVertices)
+            throw new IllegalArgumentException("No such index: " + source);
+        if (target < 0 || target >= numberOfVertices)
+            throw new IllegalArgumentException("No such index: " + target);
+        if (heuristic == Heuristic.ZERO)
+            heuristic = null;
+
+        double[] cost = new double[numberOfVertices];
+        int[] parent = new int[numberOfVertices];
+        int settled = GraphTraversal.dijkstra(createNeighborCursor(), numberOfVertices,
+            source, target, heuristic, cost, parent, null);
+
+        return GraphPath.fromParents(source, target, parent, cost[target], settled);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isConnected()
+     * Description  Return true if the graph has at most one connected
+     *              component. Edges count in both directions, as in
+     *              AbstractGraph.isConnected. The components are not kept,
+     *              so every call unions all the edges again.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isConnected()
+    {
+        UnionFind components = new UnionFind(numberOfVertices);
+        for (int u = 0; u < numberOfVertices && components.getCount() > 1; u++)
+        {
+            int end = getEndEdge(u);
+            for (int i = getFirstEdge(u); i < end; i++)
+                components.union(u, getTarget(i));
+        }
+        return components.getCount() <= 1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       toTree()
+     * Description  Copy the parents and search order of the traversal in
+     *              context into a new Tree rooted at v.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       found int
+     * @param       context TraversalContext
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private AbstractGraph<V>.Tree toTree(int v, int found, TraversalContext context)
+    {
+        int[] parent = GraphTraversal.copyParents(context, numberOfVertices);
+        int[] searchOrder = Arrays.copyOf(context.getSearchOrder(), found);
+        return treeOwner.new Tree(v, parent, searchOrder, found);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createVertexIndex()
+     * Description  Hash the vertex objects for getIndex, the first of equal
+     *              vertices winning as in AbstractGraph, unless another
+     *              thread has already done so. It runs on the first getIndex
+     *              rather than in the constructors, so opening a graph file
+     *              decodes no names, and publishes the index through the
+     *              volatile field only once it is complete.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      index HashMap
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private synchronized HashMap<V, Integer> createVertexIndex()
+    {
+        if (vertexIndex != null)
+            return vertexIndex;
+
+        HashMap<V, Integer> index = new HashMap<>(Math.max(2 * vertices.size(), 16));
+        for (int i = 0; i < vertices.size(); i++)
+            index.putIfAbsent(vertices.get(i), i);
+        vertexIndex = index;
+        return index;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       createTreeOwner()
+     * Description  Return the empty AbstractGraph whose vertex list is this
+     *              graph's. A Tree is an inner class of AbstractGraph and
+     *              reads only that list, so it prints and builds paths with
+     *              the right vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      owner AbstractGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private AbstractGraph<V> createTreeOwner()
+    {
+        AbstractGraph<V> owner = new AbstractGraph<V>() { };
+        owner.vertices = getVertices();
+        return owner;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isIndexList()
+     * Description  Return true if vertex i of the list is the Integer i
+     *              for every i.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       vertices List
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    static boolean isIndexList(List<?> vertices)
+    {
+        int i = 0;
+        for (Object vertex : vertices)
+        {
+            if (!(vertex instanceof Integer) || (Integer)vertex != i++)
+                return false;
+        }
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       allocate()
+     * Description  Return zeroed direct little-endian pages holding bytes
+     *              bytes, all of PAGE_SIZE but the last.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       bytes long
+     * @return      pages ByteBuffer[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static ByteBuffer[] allocate(long bytes)
+    {
+        ByteBuffer[] pages = new ByteBuffer[(int)((bytes + PAGE_MASK) >>> PAGE_BITS)];
+        for (int i = 0; i < pages.length; i++)
+        {
+            long size = Math.min(PAGE_SIZE, bytes - i * PAGE_SIZE);
+            pages[i] = ByteBuffer.allocateDirect((int)size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return pages;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getInt()
+     * Description  Return int number index of a paged column. Page sizes
+     *              are multiples of 8, so no value spans two pages.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       pages ByteBuffer[]
+     * @param       index int
+     * @return      value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static int getInt(ByteBuffer[] pages, int index)
+    {
+        long position = 4L * index;
+        return pages[(int)(position >>> PAGE_BITS)].getInt((int)(position & PAGE_MASK));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       putInt()
+     * Description  Set int number index of a paged column.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       pages ByteBuffer[]
+     * @param       index int
+     * @param       value int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void putInt(ByteBuffer[] pages, int index, int value)
+    {
+        long position = 4L * index;
+        pages[(int)(position >>> PAGE_BITS)].putInt((int)(position & PAGE_MASK), value);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getDouble()
+     * Description  Return double number index of a paged column.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       pages ByteBuffer[]
+     * @param       index int
+     * @return      value double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static double getDouble(ByteBuffer[] pages, int index)
+    {
+        long position = 8L * index;
+        return pages[(int)(position >>> PAGE_BITS)].getDouble((int)(position & PAGE_MASK));
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       putDouble()
+     * Description  Set double number index of a paged column.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       pages ByteBuffer[]
+     * @param       index int
+     * @param       value double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static void putDouble(ByteBuffer[] pages, int index, double value)
+    {
+        long position = 8L * index;
+        pages[(int)(position >>> PAGE_BITS)].putDouble((int)(position & PAGE_MASK), value);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        SlotNeighborCursor
+     * Description  NeighborCursor walking the edge slots of one vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class SlotNeighborCursor implements NeighborCursor
+    {
+        private int first; // First slot of the vertex
+        private int edge;  // Slot of the current edge
+        private int end;   // One past the last slot of the vertex
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the edges leaving u.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u)
+        {
+            reset(u, 0);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       reset()
+         * Description  Start a walk over the edges leaving u before edge
+         *              position of them.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void reset(int u, int position)
+        {
+            first = getFirstEdge(u);
+            edge = first + position - 1;
+            end = getEndEdge(u);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getPosition()
+         * Description  Return the position of the current edge among the
+         *              edges of the vertex.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      position int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getPosition()
+        {
+            return edge - first;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       next()
+         * Description  Move to the next edge. Return false if there is none.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public boolean next()
+        {
+            return ++edge < end;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getTarget()
+         * Description  Return the vertex the current edge leads to.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      v int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int getTarget()
+        {
+            return OffHeapGraph.this.getTarget(edge);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       getWeight()
+         * Description  Return the weight of the current edge.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      weight double
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public double getWeight()
+        {
+            return OffHeapGraph.this.getWeight(edge);
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        IndexList
+     * Description  Read-only list of the Integers 0..size-1 that stores
+     *              nothing, the vertices of a graph built from indices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class IndexList extends AbstractList<Integer>
+        implements RandomAccess
+    {
+        private final int size;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  IndexList()
+         * Description  Construct the list 0..size-1.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        IndexList(int size)
+        {
+            this.size = size;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       get()
+         * Description  Return i.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @return      vertex Integer
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public Integer get(int i)
+        {
+            if (i < 0 || i >= size)
+                throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+            return i;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       size()
+         * Description  Return the number of vertices.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
+}
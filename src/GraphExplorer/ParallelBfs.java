@@ -0,0 +1,440 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        ParallelBfs.java
+ * Description  Direction-optimizing breadth-first search run level by level
+ *              on a ForkJoinPool. A top-down level scans the edges leaving
+ *              the frontier and claims each unvisited end vertex with a
+ *              compare-and-set on an atomic visited bitset. A bottom-up
+ *              level instead lets every unvisited vertex look through its
+ *              incoming edges for any frontier vertex, and stops at the
+ *              first one. On low-diameter graphs the middle levels hold
+ *              most of the graph, and bottom-up skips most of their edges.
+ *
+ *              The search switches to bottom-up when the frontier has more
+ *              than 1/ALPHA of the edges left to check, and back to
+ *              top-down when it holds fewer than 1/BETA of the vertices.
+ *              The result is a breadth-first Tree of the graph, but which
+ *              of several frontier vertices becomes a parent, and the
+ *              order of vertices within a level, depend on the threads.
+ *              The graph is copied into arrays of outgoing and incoming
+ *              edges when this object is built, and later changes to it
+ *              are not seen.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ * @param       <V> generic type
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class ParallelBfs<V>
+{
+    // Frontier edges over unexplored edges that turns on bottom-up
+    private static final int ALPHA = 15;
+    // Vertices over frontier vertices that turns top-down back on
+    private static final int BETA = 18;
+    // Frontier vertices or vertices a task handles without splitting
+    private static final int GRAIN = 1024;
+    // Vertices a task collects before reserving room in the search order
+    private static final int BUFFER_SIZE = 256;
+
+    private final AbstractGraph<V> graph;
+    private final int[] outOffsets;     // Edges leaving u are [outOffsets[u], outOffsets[u + 1])
+    private final int[] outTargets;
+    private final int[] inOffsets;      // Edges entering v are [inOffsets[v], inOffsets[v + 1])
+    private final int[] inSources;
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  ParallelBfs()
+     * Description  Copy the edges of graph in both directions.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       graph AbstractGraph
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public ParallelBfs(AbstractGraph<V> graph)
+    {
+        this.graph = graph;
+        int n = graph.getSize();
+        outOffsets = new int[n + 1];
+        inOffsets = new int[n + 1];
+        for (int u = 0; u < n; u++)
+        {
+            List<AbstractGraph.Edge> edges = graph.neighbors.get(u);
+            outOffsets[u + 1] = outOffsets[u] + edges.size();
+            for (AbstractGraph.Edge e : edges)
+                inOffsets[e.v + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+            inOffsets[v + 1] += inOffsets[v];
+
+        outTargets = new int[outOffsets[n]];
+        inSources = new int[outOffsets[n]];
+        int[] next = new int[n];
+        int i = 0;
+        for (int u = 0; u < n; u++)
+        {
+            for (AbstractGraph.Edge e : graph.neighbors.get(u))
+            {
+                outTargets[i++] = e.v;
+                inSources[inOffsets[e.v] + next[e.v]++] = u;
+            }
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs()
+     * Description  Search from root on the common pool.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       root int
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AbstractGraph<V>.Tree bfs(int root)
+    {
+        return bfs(root, ForkJoinPool.commonPool());
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bfs()
+     * Description  Search from root on the given pool. The vertices of each
+     *              level are appended to the search order after the level
+     *              before, so the frontier is always the last stretch of
+     *              the search order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       root int
+     * @param       pool ForkJoinPool
+     * @return      tree Tree
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public AbstractGraph<V>.Tree bfs(int root, ForkJoinPool pool)
+    {
+        int n = outOffsets.length - 1;
+        if (root < 0 || root >= n)
+            throw new IllegalArgumentException("No such index: " + root);
+
+        Search search = new Search(n);
+        search.parent[root] = -1;
+        search.visited.set(root >>> 6, 1L << root);
+        search.searchOrder[0] = root;
+        search.tail.set(1);
+
+        int start = 0;                          // Frontier is searchOrder[start, end)
+        int end = 1;
+        long frontierEdges = outOffsets[root + 1] - outOffsets[root];
+        long unexploredEdges = inSources.length - (inOffsets[root + 1] - inOffsets[root]);
+        boolean bottomUp = false;
+
+        while (start < end)
+        {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA)
+                bottomUp = true;
+            else if (bottomUp && end - start < n / BETA)
+                bottomUp = false;
+
+            if (bottomUp)
+            {
+                search.clearFrontier();
+                pool.invoke(new LevelTask(search, Mode.MARK_FRONTIER, start, end));
+                pool.invoke(new LevelTask(search, Mode.BOTTOM_UP, 0, n));
+            }
+            else
+                pool.invoke(new LevelTask(search, Mode.TOP_DOWN, start, end));
+
+            start = end;
+            end = search.tail.get();
+            frontierEdges = 0;
+            for (int i = start; i < end; i++)
+            {
+                int v = search.searchOrder[i];
+                frontierEdges += outOffsets[v + 1] - outOffsets[v];
+                unexploredEdges -= inOffsets[v + 1] - inOffsets[v];
+            }
+        }
+
+        return graph.new Tree(root, search.parent, search.searchOrder, end);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       topDown()
+     * Description  Claim the unvisited out-neighbors of the frontier
+     *              vertices searchOrder[low, high) for the next level.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       search Search
+     * @param       low int
+     * @param       high int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void topDown(Search search, int low, int high)
+    {
+        int[] buffer = new int[BUFFER_SIZE];
+        int buffered = 0;
+        for (int i = low; i < high; i++)
+        {
+            int u = search.searchOrder[i];
+            for (int e = outOffsets[u]; e < outOffsets[u + 1]; e++)
+            {
+                int w = outTargets[e];
+                if (search.claim(w))
+                {
+                    search.parent[w] = u;
+                    buffer[buffered++] = w;
+                    if (buffered == BUFFER_SIZE)
+                        buffered = search.append(buffer, buffered);
+                }
+            }
+        }
+        search.append(buffer, buffered);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bottomUp()
+     * Description  Give every unvisited vertex in low..high-1 with an
+     *              in-neighbor on the frontier that neighbor as its parent.
+     *              Each vertex is only written by the task that owns it, but
+     *              its visited word may be shared with the next range.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       search Search
+     * @param       low int
+     * @param       high int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void bottomUp(Search search, int low, int high)
+    {
+        int[] buffer = new int[BUFFER_SIZE];
+        int buffered = 0;
+        for (int v = low; v < high; v++)
+        {
+            if (search.isVisited(v))
+                continue;
+
+            for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++)
+            {
+                int u = inSources[e];
+                if (search.isOnFrontier(u))
+                {
+                    search.claim(v);
+                    search.parent[v] = u;
+                    buffer[buffered++] = v;
+                    if (buffered == BUFFER_SIZE)
+                        buffered = search.append(buffer, buffered);
+                    break;
+                }
+            }
+        }
+        search.append(buffer, buffered);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Enum         Mode
+     * Description  What a LevelTask does with its range.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private enum Mode
+    {
+        TOP_DOWN,
+        BOTTOM_UP,
+        MARK_FRONTIER
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        Search
+     * Description  State of one search, shared by the tasks of every level.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class Search
+    {
+        private final int[] parent;
+        private final int[] searchOrder;
+        private final AtomicInteger tail = new AtomicInteger(); // End of the search order
+        private final AtomicLongArray visited;  // Bit v of word v / 64 marks v
+        private final AtomicLongArray frontier; // The same for the frontier
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  Search()
+         * Description  Allocate the state for a graph of n vertices, with
+         *              every parent -1.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       n int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private Search(int n)
+        {
+            parent = new int[n];
+            Arrays.fill(parent, -1);
+            searchOrder = new int[n];
+            visited = new AtomicLongArray((n + 63) >>> 6);
+            frontier = new AtomicLongArray((n + 63) >>> 6);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       claim()
+         * Description  Mark v visited. Return true if this call did it and
+         *              false if v was already visited.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       v int
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private boolean claim(int v)
+        {
+            int word = v >>> 6;
+            long bit = 1L << v;
+            long old = visited.get(word);
+            while ((old & bit) == 0)
+            {
+                if (visited.compareAndSet(word, old, old | bit))
+                    return true;
+                old = visited.get(word);
+            }
+            return false;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       isVisited()
+         * Description  Return true if v is visited.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       v int
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private boolean isVisited(int v)
+        {
+            return (visited.get(v >>> 6) & (1L << v)) != 0;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       isOnFrontier()
+         * Description  Return true if u is on the frontier bitset.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @return      true/false boolean
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private boolean isOnFrontier(int u)
+        {
+            return (frontier.get(u >>> 6) & (1L << u)) != 0;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       markFrontier()
+         * Description  Set the frontier bits of searchOrder[low, high).
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       low int
+         * @param       high int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void markFrontier(int low, int high)
+        {
+            for (int i = low; i < high; i++)
+            {
+                int u = searchOrder[i];
+                frontier.getAndAccumulate(u >>> 6, 1L << u, (a, b) -> a | b);
+            }
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       clearFrontier()
+         * Description  Clear the frontier bitset.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private void clearFrontier()
+        {
+            for (int i = 0; i < frontier.length(); i++)
+                frontier.set(i, 0);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       append()
+         * Description  Reserve room at the end of the search order and copy
+         *              the buffered vertices there. Return 0, the new number
+         *              of buffered vertices.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       buffer int[]
+         * @param       buffered int
+         * @return      buffered int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private int append(int[] buffer, int buffered)
+        {
+            if (buffered > 0)
+                System.arraycopy(buffer, 0, searchOrder, tail.getAndAdd(buffered), buffered);
+            return 0;
+        }
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        LevelTask
+     * Description  Fork-join task over part of one level: frontier
+     *              positions low..high-1 for TOP_DOWN and MARK_FRONTIER,
+     *              vertices low..high-1 for BOTTOM_UP.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private class LevelTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final Mode mode;
+        private final int low;
+        private final int high;
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  LevelTask()
+         * Description  Construct a task over low..high-1.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       search Search
+         * @param       mode Mode
+         * @param       low int
+         * @param       high int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private LevelTask(Search search, Mode mode, int low, int high)
+        {
+            this.search = search;
+            this.mode = mode;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       compute()
+         * Description  Do the range directly if it is small, otherwise
+         *              split it in two and run both halves.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        protected void compute()
+        {
+            int grain = mode == Mode.BOTTOM_UP ? 4 * GRAIN : GRAIN;
+            if (high - low <= grain)
+            {
+                switch (mode)
+                {
+                    case TOP_DOWN:
+                        topDown(search, low, high);
+                        break;
+                    case BOTTOM_UP:
+                        bottomUp(search, low, high);
+                        break;
+                    default:
+                        search.markFrontier(low, high);
+                }
+            }
+            else
+            {
+                int middle = (low + high) >>> 1;
+                invokeAll(new LevelTask(search, mode, low, middle),
+                    new LevelTask(search, mode, middle, high));
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package GraphExplorer;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        PathAlgorithm.java
+ * Description  Search used by WeightedGraph.shortestPath to answer a point
+ *              to point query. DIJKSTRA grows one search from the source.
+ *              BIDIRECTIONAL grows a second search backward from the target
+ *              and stops once the two meet; it follows the edges leaving
+ *              each vertex in both directions, so it expects every edge
+ *              (u, v, w) to have a reverse edge (v, u, w), as the edge files
+ *              are loaded.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public enum PathAlgorithm
+{
+    DIJKSTRA,
+    BIDIRECTIONAL
+}
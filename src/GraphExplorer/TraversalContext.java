@@ -0,0 +1,308 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        TraversalContext.java
+ * Description  Reusable state of one graph traversal: visited marks, parent
+ *              links, the search order, an int ring buffer queue for a
+ *              breadth-first search and a stack of vertices and edge
+ *              cursors for a depth-first search. A
+ *              vertex is visited when its stamp equals the current epoch,
+ *              so reset only bumps the epoch instead of clearing the
+ *              arrays, and a context passed to many searches allocates
+ *              nothing after it has grown to the size of the graph. The
+ *              results of a search stay valid until the next reset. A
+ *              context must not be shared between threads.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class TraversalContext
+{
+    private int[] stamp = new int[0];   // stamp[v] == epoch if v is visited
+    private int[] parent = new int[0];  // Valid for visited vertices only
+    private int[] searchOrder = new int[0];
+    private int[] queue = new int[0];   // Ring buffer of queued vertices, or the dfs stack
+    private int[] cursor = new int[0];  // Next edge to try at each stack depth
+    private int epoch;
+    private int root = -1;
+    private int found;                  // Vertices visited since the reset
+    private int head;                   // Slot of the first queued vertex
+    private int queued;                 // Number of queued vertices
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  TraversalContext()
+     * Description  Construct an empty context that grows on first use.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public TraversalContext()
+    {
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  TraversalContext()-overloaded constructor
+     * Description  Construct a context for graphs of up to capacity
+     *              vertices.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       capacity int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public TraversalContext(int capacity)
+    {
+        grow(capacity);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       reset()
+     * Description  Start a new traversal of a graph of n vertices from
+     *              root: nothing visited, an empty queue and search order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       n int
+     * @param       root int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void reset(int n, int root)
+    {
+        if (root < 0 || root >= n)
+            throw new IllegalArgumentException("No such index: " + root);
+        if (stamp.length < n)
+            grow(n);
+
+        if (++epoch == 0) // Stamps from 2^32 resets ago would look current
+        {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        this.root = root;
+        found = 0;
+        head = 0;
+        queued = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       grow()
+     * Description  Replace the arrays with arrays for n vertices. Old
+     *              stamps are dropped with them.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       n int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void grow(int n)
+    {
+        stamp = new int[n];
+        parent = new int[n];
+        searchOrder = new int[n];
+        queue = new int[n];
+        cursor = new int[n];
+        epoch = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isVisited()
+     * Description  Return true if v has been visited since the last reset.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isVisited(int v)
+    {
+        return stamp[v] == epoch;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       visit()
+     * Description  Mark v visited from parent, -1 for the root, and append
+     *              it to the search order. Return false if v was already
+     *              visited.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @param       from int, the parent of v
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean visit(int v, int from)
+    {
+        if (stamp[v] == epoch)
+            return false;
+
+        stamp[v] = epoch;
+        parent[v] = from;
+        searchOrder[found++] = v;
+        return true;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       offer()
+     * Description  Add v to the back of the queue. Every vertex is queued
+     *              at most once per traversal, so the queue never overflows.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void offer(int v)
+    {
+        int tail = head + queued;
+        if (tail >= queue.length)
+            tail -= queue.length;
+        queue[tail] = v;
+        queued++;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       poll()
+     * Description  Remove and return the vertex at the front of the queue.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int poll()
+    {
+        int v = queue[head];
+        if (++head == queue.length)
+            head = 0;
+        queued--;
+        return v;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isQueueEmpty()
+     * Description  Return true if no vertex is queued.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isQueueEmpty()
+    {
+        return queued == 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       push()
+     * Description  Push v on the stack with its edge cursor at 0. The
+     *              stack shares its array with the queue, so a traversal
+     *              uses one or the other. Every vertex is pushed at most
+     *              once per traversal, so the stack never overflows.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void push(int v)
+    {
+        queue[queued] = v;
+        cursor[queued++] = 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       peek()
+     * Description  Return the vertex on top of the stack.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int peek()
+    {
+        return queue[queued - 1];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       pop()
+     * Description  Remove and return the vertex on top of the stack.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertex int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int pop()
+    {
+        return queue[--queued];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getCursor()
+     * Description  Return the next edge to try at the top of the stack.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      cursor int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getCursor()
+    {
+        return cursor[queued - 1];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       setCursor()
+     * Description  Set the next edge to try at the top of the stack.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       i int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public void setCursor(int i)
+    {
+        cursor[queued - 1] = i;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       isStackEmpty()
+     * Description  Return true if no vertex is on the stack.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean isStackEmpty()
+    {
+        return queued == 0;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getRoot()
+     * Description  Return the root of the current traversal.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      root int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getRoot()
+    {
+        return root;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getParent()
+     * Description  Return the parent of v in the traversal tree, or -1 if v
+     *              is the root or was not visited.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+     * @return      parent int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getParent(int v)
+    {
+        return stamp[v] == epoch ? parent[v] : -1;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSearchOrder()
+     * Description  Return the search order array. Only the first
+     *              getNumberOfVerticesFound() entries belong to the current
+     *              traversal. The array is shared, not copied.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      searchOrder int[]
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int[] getSearchOrder()
+    {
+        return searchOrder;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getNumberOfVerticesFound()
+     * Description  Return the number of vertices visited since the reset.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      vertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getNumberOfVerticesFound()
+    {
+        return found;
+    }
+}
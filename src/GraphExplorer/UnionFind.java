@@ -0,0 +1,194 @@
+package GraphExplorer;
+
+import java.util.Arrays;
+
+/**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Class        UnionFind.java
+ * Description  Disjoint-set forest over the elements 0..size-1 stored in
+ *              primitive int arrays. find uses iterative path halving and
+ *              union links by rank, so both run in near-constant amortized
+ *              time and never recurse, however long a chain gets. Elements
+ *              can be added one at a time; the arrays grow by half when
+ *              full. Each root also keeps the size of its set. find and
+ *              union change the forest; findRoot and getSetSize only read
+ *              it, so any number of threads may call them while no
+ *              thread calls the others.
+ * Date         10/18/2026
+ * @author	<i>Kirill Grichanichenko</i>
+ *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+public class UnionFind
+{
+    private int[] parent;       // parent[i] is the parent of i, a root is its own parent
+    private byte[] rank;        // Upper bound on the height of each root's tree
+    private int[] setSize;      // Number of elements in the set of each root
+    private int size;           // Number of elements
+    private int count;          // Number of disjoint sets
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  UnionFind()
+     * Description  Create size singleton sets, one for each element.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public UnionFind(int size)
+    {
+        parent = new int[size];
+        rank = new byte[size];
+        setSize = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            parent[i] = i;
+            setSize[i] = 1;
+        }
+        this.size = size;
+        count = size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       add()
+     * Description  Add a new element in a set of its own and return it.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      element int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int add()
+    {
+        if (size == parent.length)
+        {
+            int capacity = Math.max(16, size + (size >> 1));
+            parent = Arrays.copyOf(parent, capacity);
+            rank = Arrays.copyOf(rank, capacity);
+            setSize = Arrays.copyOf(setSize, capacity);
+        }
+        parent[size] = size;
+        setSize[size] = 1;
+        count++;
+        return size++;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       size()
+     * Description  Return the number of elements.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int size()
+    {
+        return size;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getCount()
+     * Description  Return the number of disjoint sets.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      count int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       find()
+     * Description  Return the root of the set containing k. Every visited
+     *              element is pointed at its grandparent on the way up.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       k int
+     * @return      root int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int find(int k)
+    {
+        while (parent[k] != k)
+        {
+            parent[k] = parent[parent[k]]; // Path halving
+            k = parent[k];
+        }
+        return k;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       findRoot()
+     * Description  Return the root of the set containing k without
+     *              shortening the path. Union by rank keeps every tree at
+     *              most log2(size) high, so this is still O(log size).
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       k int
+     * @return      root int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int findRoot(int k)
+    {
+        while (parent[k] != k)
+            k = parent[k];
+        return k;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       connected()
+     * Description  Return true if a and b are in the same set.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       a int
+     * @param       b int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean connected(int a, int b)
+    {
+        return find(a) == find(b);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getSetSize()
+     * Description  Return the number of elements in the set containing k.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       k int
+     * @return      size int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public int getSetSize(int k)
+    {
+        return setSize[findRoot(k)];
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       union()
+     * Description  Merge the sets containing a and b, hanging the root of
+     *              lower rank under the other. Returns false if a and b were
+     *              already in the same set.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       a int
+     * @param       b int
+     * @return      true/false boolean
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public boolean union(int a, int b)
+    {
+        int u = find(a);
+        int v = find(b);
+        if (u == v)
+            return false;
+
+        if (rank[u] < rank[v])
+        {
+            parent[u] = v;
+            setSize[v] += setSize[u];
+        }
+        else if (rank[u] > rank[v])
+        {
+            parent[v] = u;
+            setSize[u] += setSize[v];
+        }
+        else
+        {
+            parent[v] = u;
+            setSize[u] += setSize[v];
+            rank[u]++;
+        }
+        count--;
+        return true;
+    }
+}
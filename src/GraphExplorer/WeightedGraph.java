@@ -84,6 +84,48 @@ public class WeightedGraph<V> extends AbstractGraph<V>
         createWeightedGraph(vertices, edges);
     }
 
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Constructor  WeightedGraph()-overloaded constructor
+     * Description  Construct a graph from integer vertices 0, 1, ... and an
+     *              EdgeStore. The targets and weights are copied into two
+     *              columns grouped by source, 12 bytes per edge, and the
+     *              adjacency list of each vertex is a ColumnEdgeList over
+     *              its range instead of a list of WeightedEdge objects.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       edges EdgeStore
+     * @param       numberOfVertices int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+    @SuppressWarnings("unchecked")
+    public WeightedGraph(EdgeStore edges, int numberOfVertices) 
+    {
+        int[] start = new int[numberOfVertices + 1];
+        for (int i = 0; i < edges.size(); i++)
+            start[edges.getSource(i) + 1]++;
+        for (int u = 0; u < numberOfVertices; u++)
+            start[u + 1] += start[u];
+
+        int[] next = Arrays.copyOf(start, numberOfVertices);
+        int[] targets = new int[edges.size()];
+        double[] weights = new double[edges.size()];
+        for (int i = 0; i < edges.size(); i++)
+        {
+            int slot = next[edges.getSource(i)]++;
+            targets[slot] = edges.getTarget(i);
+            weights[slot] = edges.getWeight(i);
+        }
+
+        List<V> vertices = new ArrayList<>(numberOfVertices);
+        neighbors = new ArrayList<>(numberOfVertices);
+        for (int u = 0; u < numberOfVertices; u++)
+        {
+            vertices.add((V)(Integer.valueOf(u)));
+            neighbors.add(new ColumnEdgeList(u, start, targets, weights));
+        }
+        this.vertices = vertices;
+        rebuildIndexes();
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Constructor  createWeightedGraph()
      * Description  Create adjacency lists from edge arrays.
@@ -106,6 +148,7 @@ public class WeightedGraph<V> extends AbstractGraph<V>
             neighbors.get(edges[i][0]).add(
               new WeightedEdge(edges[i][0], edges[i][1], edges[i][2]));
         }
+        rebuildIndexes();
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -130,11 +173,13 @@ public class WeightedGraph<V> extends AbstractGraph<V>
         {      
             neighbors.get(edge.u).add(edge); // Add an edge into the list
         }
+        rebuildIndexes();
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       getWeight()
-     * Description  Return the weight on the edge (u, v).
+     * Description  Return the weight on the edge (u, v), looked up in the
+     *              edge index in constant time if it is enabled.
      * Date         11/17/2023
      * @author      <i>Kirill Grichanichenko</i>
      * @param       u int
@@ -144,15 +189,67 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
     public double getWeight(int u, int v) throws Exception 
     {
-        for (Edge edge : neighbors.get(u)) 
-        {
-            if (edge.v == v) 
-            {
-                return ((WeightedEdge)edge).weight;
-            }
-        }
+        double weight = getWeightOrDefault(u, v, Double.NaN);
+        if (Double.isNaN(weight) && !hasEdge(u, v))
+            throw new Exception("Edge does not exit");
+
+        return weight;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       findWeight()
+     * Description  Return the weight on the edge (u, v), or an empty
+     *              OptionalDouble if there is no such edge.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @return      weight OptionalDouble
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+    public OptionalDouble findWeight(int u, int v) 
+    {
+        double weight = getWeightOrDefault(u, v, Double.NaN);
+        if (Double.isNaN(weight) && !hasEdge(u, v))
+            return OptionalDouble.empty();
 
-        throw new Exception("Edge does not exit");
+        return OptionalDouble.of(weight);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getWeightOrDefault()
+     * Description  Return the weight on the edge (u, v), or defaultWeight if
+     *              there is no such edge. Passing an infinite default lets
+     *              path costs be summed without any check per hop.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       u int
+     * @param       v int
+     * @param       defaultWeight double
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/ 
+    public double getWeightOrDefault(int u, int v, double defaultWeight) 
+    {
+        LongDoubleHashMap index = getEdgeIndex();
+        if (index != null)
+            return index.getOrDefault(LongDoubleHashMap.pack(u, v), defaultWeight);
+
+        Edge edge = findEdge(u, v);
+        return edge == null ? defaultWeight : ((WeightedEdge)edge).weight;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdgeWeight()
+     * Description  Return the weight of a WeightedEdge to forEachEdge and
+     *              the neighbor cursors.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       e Edge
+     * @return      weight double
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    @Override
+    protected double getEdgeWeight(Edge e) 
+    {
+        return ((WeightedEdge)e).weight;
     }
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -172,6 +269,29 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     return edges;
 }
 
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       getEdgeStore()
+     * Description  Copy the edges of the graph into an EdgeStore, vertex by
+     *              vertex in adjacency list order.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @return      edges EdgeStore
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public EdgeStore getEdgeStore() 
+    {
+        int m = 0;
+        for (List<Edge> list : neighbors)
+            m += list.size();
+
+        EdgeStore edges = new EdgeStore(m);
+        for (int u = 0; u < neighbors.size(); u++)
+        {
+            for (Edge e : neighbors.get(u))
+                edges.add(u, e.v, getEdgeWeight(e));
+        }
+        return edges;
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       displayEdges
      * Description  Return the edges as a String.
@@ -266,7 +386,12 @@ public class WeightedGraph<V> extends AbstractGraph<V>
      * @return  */
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ 
      * Method       getMinimumSpanningTree() 
-     * Description  Get a minimum spanning tree rooted at vertex 0
+     * Description  Get a minimum spanning tree rooted at a specified vertex
+     *              with eager Prim's algorithm. Every vertex outside the tree
+     *              sits in an IndexedMinHeap keyed by its cheapest edge into
+     *              the tree, and tree membership is a boolean array, so the
+     *              tree is built in O((V + E) log V). If the graph is not
+     *              connected only the component of startingVertex is spanned.
      * Date         11/17/2023  
      * @param       startingVertex int
      * @return      MST
@@ -275,43 +400,37 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     {
         // cost[v] stores the cost by adding v to the tree
         double[] cost = new double[getSize()];
-        for (int i = 0; i < cost.length; i++) 
-        {
-            cost[i] = Double.POSITIVE_INFINITY; // Initial cost 
-        }
+        Arrays.fill(cost, Double.POSITIVE_INFINITY); // Initial cost 
         cost[startingVertex] = 0; // Cost of source is 0
 
         int[] parent = new int[getSize()]; // Parent of a vertex
-        parent[startingVertex] = -1; // startingVertex is the root
+        Arrays.fill(parent, -1); // startingVertex is the root
         double totalWeight = 0; // Total weight of the tree thus far
 
         List<Integer> T = new ArrayList<>();
+        boolean[] isInTree = new boolean[getSize()];
+
+        IndexedMinHeap queue = new IndexedMinHeap(getSize());
+        queue.insertOrDecrease(startingVertex, 0);
 
         // Expand T
-        while (T.size() < getSize()) 
+        while (!queue.isEmpty()) 
         {
-            // Find smallest cost v in V - T 
-            int u = -1; // Vertex to be determined
-            double currentMinCost = Double.POSITIVE_INFINITY;
-            for (int i = 0; i < getSize(); i++) 
-            {
-                if (!T.contains(i) && cost[i] < currentMinCost) 
-                {
-                    currentMinCost = cost[i];
-                    u = i;
-                }
-            }
-
+            // Smallest cost v in V - T 
+            int u = queue.poll();
             T.add(u); // Add a new vertex to T
+            isInTree[u] = true;
             totalWeight += cost[u]; // Add cost[u] to the tree
 
             // Adjust cost[v] for v that is adjacent to u and v in V - T
             for (Edge e : neighbors.get(u)) 
             {
-                if (!T.contains(e.v) && cost[e.v] > ((WeightedEdge)e).weight) 
+                double weight = ((WeightedEdge)e).weight;
+                if (!isInTree[e.v] && cost[e.v] > weight) 
                 {
-                    cost[e.v] = ((WeightedEdge)e).weight;
+                    cost[e.v] = weight;
                     parent[e.v] = u; 
+                    queue.insertOrDecrease(e.v, weight);
                 }
             }
         }
@@ -320,6 +439,136 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     }
 
     /** MST is an inner class in WeightedGraph */
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Class        ColumnEdgeList
+     * Description  Adjacency list of vertex u read from the shared target
+     *              and weight columns of a graph built from an EdgeStore.
+     *              get creates a WeightedEdge for the edge it returns, so
+     *              no edge object is kept. The first change to the list
+     *              copies it into an ArrayList, which it then delegates to.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private static class ColumnEdgeList extends AbstractList<Edge> 
+        implements RandomAccess
+    {
+        private final int u;
+        private final int[] start;          // Edges of u are start[u]..start[u + 1] - 1
+        private final int[] targets;
+        private final double[] weights;
+        private List<Edge> copy;            // null until the list is changed
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Constructor  ColumnEdgeList()
+         * Description  Construct the list of the edges of u in the columns.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       u int
+         * @param       start int[]
+         * @param       targets int[]
+         * @param       weights double[]
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private ColumnEdgeList(int u, int[] start, int[] targets, double[] weights)
+        {
+            this.u = u;
+            this.start = start;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       get()
+         * Description  Return edge i of u as a new WeightedEdge.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @return      edge Edge
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public Edge get(int i)
+        {
+            if (copy != null)
+                return copy.get(i);
+            if (i < 0 || i >= size())
+                throw new IndexOutOfBoundsException("Index: " + i);
+
+            return new WeightedEdge(u, targets[start[u] + i], weights[start[u] + i]);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       size()
+         * Description  Return the number of edges of u.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      size int
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public int size()
+        {
+            return copy != null ? copy.size() : start[u + 1] - start[u];
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       add()
+         * Description  Insert edge at index i.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @param       edge Edge
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public void add(int i, Edge edge)
+        {
+            modifiable().add(i, edge);
+            modCount++;
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       set()
+         * Description  Replace edge i and return the edge it replaced.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @param       edge Edge
+         * @return      edge Edge
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public Edge set(int i, Edge edge)
+        {
+            return modifiable().set(i, edge);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       remove()
+         * Description  Remove and return edge i.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @param       i int
+         * @return      edge Edge
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        @Override
+        public Edge remove(int i)
+        {
+            modCount++;
+            return modifiable().remove(i);
+        }
+
+        /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+         * Method       modifiable()
+         * Description  Return the ArrayList copy of the edges, making it on
+         *              the first call.
+         * Date         10/18/2026
+         * @author      <i>Kirill Grichanichenko</i>
+         * @return      copy List
+        *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+        private List<Edge> modifiable()
+        {
+            if (copy == null)
+                copy = new ArrayList<>(this);
+            return copy;
+        }
+    }
+
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Class        MST
      * Description  MST inner class inside the WeightedGraph class that 
@@ -363,7 +612,10 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * Method       ShortestPathTree
-     * Description  Find single source shortest paths.
+     * Description  Find single source shortest paths with Dijkstra's
+     *              algorithm on an indexed heap, see dijkstra(). Vertices
+     *              that cannot be reached keep an infinite cost and a
+     *              parent of -1.
      * Date         11/17/2023
      * @param       sourceVertex int
      * @return      shortest path ShortestPathTree
@@ -373,50 +625,221 @@ public class WeightedGraph<V> extends AbstractGraph<V>
     {
         // cost[v] stores the cost of the path from v to the source
         double[] cost = new double[getSize()];
-        for (int i = 0; i < cost.length; i++) 
-        {
-            cost[i] = Double.POSITIVE_INFINITY; // Initial cost set to infinity
-        }
-        cost[sourceVertex] = 0; // Cost of source is 0
 
         // parent[v] stores the previous vertex of v in the path
         int[] parent = new int[getSize()];
-        parent[sourceVertex] = -1; // The parent of source is set to -1
 
         // T stores the vertices whose path found so far
         List<Integer> T = new ArrayList<>();
 
-        // Expand T
-        while (T.size() < getSize()) 
+        dijkstra(sourceVertex, -1, null, cost, parent, T);
+        
+        // Create a ShortestPathTree
+        return new ShortestPathTree(sourceVertex, parent, T, cost);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Find the shortest path from source to target. The search
+     *              stops as soon as target is settled and the path is read
+     *              back along the parent array, so nothing beyond the ball
+     *              around source of radius cost(target) is explored.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath shortestPath(int source, int target)
+    {
+        return shortestPath(source, target, PathAlgorithm.DIJKSTRA);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Find the shortest path from source to target with the
+     *              given search.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @param       algorithm PathAlgorithm
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath shortestPath(int source, int target, PathAlgorithm algorithm)
+    {
+        checkIndex(source);
+        checkIndex(target);
+        if (algorithm == PathAlgorithm.BIDIRECTIONAL)
+            return bidirectionalShortestPath(source, target);
+
+        return shortestPath(source, target, (Heuristic)null);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       shortestPath()
+     * Description  Find the shortest path from source to target with A*:
+     *              the heap is ordered by cost plus the heuristic's estimate
+     *              of the distance left to target, which steers the search
+     *              toward target. Heuristic.ZERO or null runs plain
+     *              Dijkstra.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @param       heuristic Heuristic
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    public GraphPath shortestPath(int source, int target, Heuristic heuristic)
+    {
+        checkIndex(source);
+        checkIndex(target);
+        if (heuristic == Heuristic.ZERO)
+            heuristic = null;
+
+        double[] cost = new double[getSize()];
+        int[] parent = new int[getSize()];
+        int settled = dijkstra(source, target, heuristic, cost, parent, null);
+
+        return GraphPath.fromParents(source, target, parent, cost[target], settled);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       bidirectionalShortestPath()
+     * Description  Bidirectional Dijkstra. A forward search from source and
+     *              a backward search from target take turns settling the
+     *              vertex with the smaller key. Every edge scanned into a
+     *              vertex the other side has reached gives a candidate path
+     *              and the best one is kept. Once the two smallest keys add
+     *              up to at least the best candidate, no shorter path can
+     *              exist and the search stops. The backward search follows
+     *              the edges leaving each vertex, so the graph must be
+     *              symmetric.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       source int
+     * @param       target int
+     * @return      path GraphPath
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private GraphPath bidirectionalShortestPath(int source, int target)
+    {
+        if (source == target)
+            return new GraphPath(source, target, new int[] {source}, 0, 1);
+
+        int n = getSize();
+        double[][] cost = {new double[n], new double[n]};   // 0 forward, 1 backward
+        int[][] parent = {new int[n], new int[n]};
+        boolean[][] isSettled = {new boolean[n], new boolean[n]};
+        IndexedMinHeap[] queue = {new IndexedMinHeap(n), new IndexedMinHeap(n)};
+        for (int side = 0; side < 2; side++)
         {
-            // Find smallest cost v in V - T 
-            int u = -1; // Vertex to be determined
-            double currentMinCost = Double.POSITIVE_INFINITY;
-            for (int i = 0; i < getSize(); i++) 
-            {
-                if (!T.contains(i) && cost[i] < currentMinCost) 
-                {
-                    currentMinCost = cost[i];
-                    u = i;
-                }
-            }
+            Arrays.fill(cost[side], Double.POSITIVE_INFINITY);
+            Arrays.fill(parent[side], -1);
+        }
+        cost[0][source] = 0;
+        cost[1][target] = 0;
+        queue[0].insertOrDecrease(source, 0);
+        queue[1].insertOrDecrease(target, 0);
 
-            T.add(u); // Add a new vertex to T
+        double best = Double.POSITIVE_INFINITY; // Shortest path seen so far
+        int meet = -1;                          // Vertex where it joins up
+        int settled = 0;
 
-            // Adjust cost[v] for v that is adjacent to u and v in V - T
-            for (Edge e : neighbors.get(u)) 
+        while (!queue[0].isEmpty() && !queue[1].isEmpty()
+            && queue[0].peekKey() + queue[1].peekKey() < best)
+        {
+            int side = queue[0].peekKey() <= queue[1].peekKey() ? 0 : 1;
+            double[] near = cost[side];
+            double[] far = cost[1 - side];
+            int u = queue[side].poll();
+            isSettled[side][u] = true;
+            settled++;
+
+            for (Edge e : neighbors.get(u))
             {
-                if (!T.contains(e.v) 
-                    && cost[e.v] > cost[u] + ((WeightedEdge)e).weight) 
+                double newCost = near[u] + ((WeightedEdge)e).weight;
+                if (!isSettled[side][e.v] && near[e.v] > newCost)
                 {
-                    cost[e.v] = cost[u] + ((WeightedEdge)e).weight;
-                    parent[e.v] = u; 
+                    near[e.v] = newCost;
+                    parent[side][e.v] = u;
+                    queue[side].insertOrDecrease(e.v, newCost);
+                }
+                if (far[e.v] != Double.POSITIVE_INFINITY 
+                    && near[e.v] + far[e.v] < best)
+                {
+                    best = near[e.v] + far[e.v];
+                    meet = e.v;
                 }
             }
         }
-        
-        // Create a ShortestPathTree
-        return new ShortestPathTree(sourceVertex, parent, T, cost);
+
+        if (meet == -1)
+            return new GraphPath(source, target, new int[0], best, settled);
+
+        // Source to meet along the forward parents, then on to target
+        int forward = 0;
+        for (int v = meet; v != source; v = parent[0][v])
+            forward++;
+        int backward = 0;
+        for (int v = meet; v != target; v = parent[1][v])
+            backward++;
+
+        int[] vertices = new int[forward + backward + 1];
+        int v = meet;
+        for (int i = forward; i >= 0; i--)
+        {
+            vertices[i] = v;
+            v = parent[0][v];
+        }
+        v = meet;
+        for (int i = forward + 1; i < vertices.length; i++)
+        {
+            v = parent[1][v];
+            vertices[i] = v;
+        }
+        return new GraphPath(source, target, vertices, best, settled);
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       dijkstra()
+     * Description  Dijkstra's algorithm from sourceVertex filling cost and
+     *              parent, stopping once target is settled or running to
+     *              completion when target is -1. With a heuristic it is A*.
+     *              The search is GraphTraversal.dijkstra, shared with
+     *              OffHeapGraph.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       sourceVertex int
+     * @param       target int
+     * @param       heuristic Heuristic, null for none
+     * @param       cost double[]
+     * @param       parent int[]
+     * @param       T List, receives the settle order, may be null
+     * @return      settled int, number of vertices settled
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private int dijkstra(int sourceVertex, int target, Heuristic heuristic, 
+        double[] cost, int[] parent, List<Integer> T)
+    {
+        int[] order = T == null ? null : new int[getSize()];
+        int settled = GraphTraversal.dijkstra(createNeighborCursor(), getSize(),
+            sourceVertex, target, heuristic, cost, parent, order);
+
+        for (int i = 0; T != null && i < settled; i++)
+            T.add(order[i]); // Add a new vertex to T
+        return settled;
+    }
+
+    /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * Method       checkIndex()
+     * Description  Throw IllegalArgumentException if v is not a vertex.
+     * Date         10/18/2026
+     * @author      <i>Kirill Grichanichenko</i>
+     * @param       v int
+    *~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~*/
+    private void checkIndex(int v)
+    {
+        if (v < 0 || v > getSize() - 1)
+            throw new IllegalArgumentException("No such index: " + v);
     }
 
     /**~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~